@@ -0,0 +1,29 @@
+package com.campusworks.gateway.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.http.HttpProtocol;
+
+/**
+ * Upstream HTTP Client Configuration
+ * Lets the gateway's Netty client speak cleartext HTTP/2 (h2c) to the lb:// services,
+ * so each instance is served over a few multiplexed connections instead of one
+ * connection per in-flight request. Services without HTTP/2 keep working over HTTP/1.1.
+ * Pool size, idle eviction and pool metrics come from spring.cloud.gateway.httpclient.pool.*
+ */
+@Configuration
+@ConditionalOnProperty(name = "gateway.upstream.h2c.enabled", havingValue = "true")
+public class UpstreamHttpClientConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(UpstreamHttpClientConfig.class);
+
+    @Bean
+    public HttpClientCustomizer h2cHttpClientCustomizer() {
+        logger.info("🚀 Gateway upstream client configured for h2c with HTTP/1.1 fallback");
+        return httpClient -> httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+    }
+}
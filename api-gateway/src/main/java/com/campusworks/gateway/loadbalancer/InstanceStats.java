@@ -0,0 +1,85 @@
+package com.campusworks.gateway.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Instance Stats
+ * Load statistics for one service instance: in-flight requests, peak EWMA latency
+ * and consecutive failures used for temporary ejection
+ */
+public class InstanceStats {
+    
+    /** Latency assumed for instances that have not answered a request yet */
+    private static final double MIN_LATENCY_NANOS = 1_000_000;
+    
+    private final AtomicInteger inFlight = new AtomicInteger();
+    
+    private double ewmaNanos;
+    private long lastUpdateNanos;
+    private int consecutiveFailures;
+    private long ejectedUntilNanos;
+    
+    public void requestStarted() {
+        inFlight.incrementAndGet();
+    }
+    
+    public void requestFinished() {
+        inFlight.updateAndGet(current -> current > 0 ? current - 1 : 0);
+    }
+    
+    public int getInFlight() {
+        return inFlight.get();
+    }
+    
+    /**
+     * Record a request latency
+     * Slower samples are taken immediately (peak), faster ones are blended in over the decay window
+     */
+    public synchronized void recordLatency(long latencyNanos, long nowNanos, double decayNanos) {
+        double current = decayedEwma(nowNanos, decayNanos);
+        if (lastUpdateNanos == 0 || latencyNanos > current) {
+            ewmaNanos = latencyNanos;
+        } else {
+            double weight = Math.exp(-(nowNanos - lastUpdateNanos) / decayNanos);
+            ewmaNanos = current * weight + latencyNanos * (1 - weight);
+        }
+        lastUpdateNanos = nowNanos;
+    }
+    
+    public synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+    }
+    
+    /**
+     * Record a failed request and eject the instance once the failure threshold is reached
+     * @return true if this failure ejected the instance
+     */
+    public synchronized boolean recordFailure(long nowNanos, int failureThreshold, long ejectionNanos) {
+        consecutiveFailures++;
+        if (consecutiveFailures >= failureThreshold && nowNanos >= ejectedUntilNanos) {
+            ejectedUntilNanos = nowNanos + ejectionNanos;
+            return true;
+        }
+        return false;
+    }
+    
+    public synchronized boolean isEjected(long nowNanos) {
+        return nowNanos < ejectedUntilNanos;
+    }
+    
+    /**
+     * Expected cost of sending one more request to this instance
+     * Latency decays towards zero while idle so a recovered instance gets probed again
+     */
+    public synchronized double cost(long nowNanos, double decayNanos) {
+        double latency = Math.max(decayedEwma(nowNanos, decayNanos), MIN_LATENCY_NANOS);
+        return latency * (inFlight.get() + 1);
+    }
+    
+    private double decayedEwma(long nowNanos, double decayNanos) {
+        if (lastUpdateNanos == 0) {
+            return 0;
+        }
+        return ewmaNanos * Math.exp(-(nowNanos - lastUpdateNanos) / decayNanos);
+    }
+}
@@ -0,0 +1,26 @@
+package com.campusworks.gateway.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * Latency Aware Load Balancer Configuration
+ * Registered per client via @LoadBalancerClients - deliberately not a @Configuration
+ * so it is only picked up by the load balancer child contexts
+ */
+public class LatencyAwareLoadBalancerConfiguration {
+    
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> latencyAwareLoadBalancer(Environment environment,
+                                                                        LoadBalancerClientFactory loadBalancerClientFactory,
+                                                                        InstanceStatsRegistry instanceStatsRegistry) {
+        String name = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        return new LatencyAwareLoadBalancer(
+                loadBalancerClientFactory.getLazyProvider(name, ServiceInstanceListSupplier.class),
+                name, instanceStatsRegistry);
+    }
+}
@@ -1,8 +1,10 @@
 package com.campusworks.gateway.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,7 +19,6 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 
@@ -36,16 +37,28 @@ public class JwtAuthFilter implements GlobalFilter, Ordered {
     @Value("${security.jwt.expiration}")
     private Long jwtExpiration;
     
+    /** Built once from the secret; verifying with it needs no per-request key derivation */
+    private JwtParser jwtParser;
+    
+    @PostConstruct
+    public void init() {
+        jwtParser = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8)))
+                .build();
+    }
+    
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
         ServerHttpRequest request = exchange.getRequest();
         String path = request.getPath().value();
         
-        logger.info("🔐 Processing request: {} {}", request.getMethod(), path);
+        if (logger.isDebugEnabled()) {
+            logger.debug("🔐 Processing request: {} {}", request.getMethod(), path);
+        }
         
         // Skip authentication for public endpoints
         if (isPublicEndpoint(path)) {
-            logger.info("✅ Skipping authentication for public endpoint: {}", path);
+            logger.debug("✅ Skipping authentication for public endpoint: {}", path);
             return chain.filter(exchange);
         }
         
@@ -57,13 +70,15 @@ public class JwtAuthFilter implements GlobalFilter, Ordered {
         }
         
         try {
-            if (validateToken(token)) {
-                Claims claims = getClaimsFromToken(token);
+            Claims claims = parseClaims(token);
+            if (claims != null) {
                 String userId = claims.getSubject();
                 String email = claims.get("email", String.class);
                 String roles = claims.get("roles", String.class);
                 
-                logger.info("✅ JWT token validated successfully for user: {} (email: {})", userId, email);
+                if (logger.isDebugEnabled()) {
+                    logger.debug("✅ JWT token validated successfully for user: {} (email: {})", userId, email);
+                }
                 
                 // Add user info to headers for downstream services
                 ServerHttpRequest modifiedRequest = request.mutate()
@@ -103,22 +118,18 @@ public class JwtAuthFilter implements GlobalFilter, Ordered {
         return null;
     }
     
-    private boolean validateToken(String token) {
+    /**
+     * Verify the token and return its claims in one parse, or null if it is invalid
+     */
+    private Claims parseClaims(String token) {
         try {
-            SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
-            return true;
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (Exception e) {
             logger.error("❌ Token validation failed: {}", e.getMessage());
-            return false;
+            return null;
         }
     }
     
-    private Claims getClaimsFromToken(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
-    }
-    
     private Mono<Void> onError(ServerWebExchange exchange, String err, HttpStatus httpStatus) {
         exchange.getResponse().setStatusCode(httpStatus);
         logger.error("❌ Authentication error: {}", err);
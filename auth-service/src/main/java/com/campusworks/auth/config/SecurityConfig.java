@@ -11,6 +11,7 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import com.campusworks.auth.security.JwtAuthenticationFilter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 
 /**
  * Security Configuration for Auth Service
@@ -24,6 +25,9 @@ public class SecurityConfig {
     @Autowired
     private JwtAuthenticationFilter jwtAuthenticationFilter;
     
+    @Value("${security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+    
     /**
      * Security Filter Chain
      * Configures security rules and authentication
@@ -51,6 +55,12 @@ public class SecurityConfig {
                                "/auth/verification-status/**", "/auth/validate-email/**", 
                                "/auth/resend-verification-public", "/auth/health").permitAll()
                 
+                // Claims-only validation: the token being validated is the request's subject, not its credential
+                .requestMatchers("/auth/validate/claims", "/auth/validate/batch").permitAll()
+                
+                // Health checks and metrics scraping
+                .requestMatchers("/actuator/health/**", "/actuator/info", "/actuator/prometheus").permitAll()
+                
                 // Protected endpoints (require authentication)
                 .requestMatchers("/auth/change-password", "/auth/delete-account", 
                                "/auth/logout", "/auth/validate", "/auth/test-auth",
@@ -68,10 +78,11 @@ public class SecurityConfig {
     
     /**
      * Password Encoder
-     * Uses BCrypt for secure password hashing
+     * Uses BCrypt for secure password hashing with a configurable cost.
+     * Hashes created with a lower cost are upgraded on the next successful login.
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(bcryptStrength);
     }
 }
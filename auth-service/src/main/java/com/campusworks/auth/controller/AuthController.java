@@ -1,11 +1,18 @@
 package com.campusworks.auth.controller;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -19,8 +26,11 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.campusworks.auth.exception.ServiceUnavailableException;
 import com.campusworks.auth.model.User;
+import com.campusworks.auth.security.TokenClaims;
 import com.campusworks.auth.service.AuthService;
+import com.campusworks.auth.service.TokenValidationService;
 
 /**
  * Auth Controller
@@ -35,6 +45,15 @@ public class AuthController {
     @Autowired
     private AuthService authService;
     
+    @Autowired
+    private TokenValidationService tokenValidationService;
+    
+    @Value("${security.jwt.validation.cache-seconds:30}")
+    private long validationCacheSeconds;
+    
+    @Value("${security.jwt.validation.max-batch-size:100}")
+    private int maxValidationBatchSize;
+    
     /**
      * Register a new user
      * All new registrations default to STUDENT role
@@ -62,6 +81,8 @@ public class AuthController {
             
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
             
+        } catch (ServiceUnavailableException e) {
+            return serviceBusy(e);
         } catch (Exception e) {
             logger.error("❌ Registration failed for email: {} - Error: {}", 
                         request.getEmail(), e.getMessage(), e);
@@ -90,6 +111,8 @@ public class AuthController {
             
             return ResponseEntity.ok(response);
             
+        } catch (ServiceUnavailableException e) {
+            return serviceBusy(e);
         } catch (Exception e) {
             logger.error("❌ Login failed for email: {} - Error: {}", 
                         request.getEmail(), e.getMessage(), e);
@@ -108,6 +131,24 @@ public class AuthController {
         return ResponseEntity.ok("Auth Service is running - Phase 1 ✅");
     }
     
+    /**
+     * Build a 503 response for requests shed by admission control
+     * Clients should retry after a short delay
+     */
+    private ResponseEntity<?> serviceBusy(ServiceUnavailableException e) {
+        logger.warn("⚠️ Request rejected by admission control: {}", e.getMessage());
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", e.getMessage());
+        response.put("title", "Service Busy");
+        response.put("timestamp", System.currentTimeMillis());
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+    
     /**
      * Get user information by email
      * @param email user's email address
@@ -225,6 +266,91 @@ public class AuthController {
         }
     }
     
+    /**
+     * Validate a token and return its claims (claims-only fast path)
+     * Signature check with the cached key and revocation check in memory; no user lookup.
+     * Valid answers may be cached until the token expires, at most validation cache-seconds,
+     * which is also how long a revocation can take to reach a caching client.
+     * @param authorizationHeader "Bearer <token>"
+     * @return claims with 200, or the rejection reason with 401
+     */
+    @GetMapping("/validate/claims")
+    public ResponseEntity<?> validateTokenClaims(
+            @RequestHeader(value = "Authorization", required = false) String authorizationHeader) {
+        String token = authorizationHeader != null && authorizationHeader.startsWith("Bearer ")
+                ? authorizationHeader.substring(7)
+                : null;
+        
+        try {
+            TokenClaims claims = tokenValidationService.validate(token);
+            
+            if (!claims.valid()) {
+                logger.debug("❌ Token rejected by claims validation: {}", claims.reason());
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .cacheControl(CacheControl.noStore())
+                        .body(claims);
+            }
+            
+            return ResponseEntity.ok()
+                    .cacheControl(validationCacheControl(claims.secondsToExpiry(Instant.now().getEpochSecond())))
+                    .body(claims);
+            
+        } catch (ServiceUnavailableException e) {
+            return serviceBusy(e);
+        }
+    }
+    
+    /**
+     * Validate many tokens in one call (claims-only fast path)
+     * Results are in request order; the response may be cached as long as its shortest-lived valid token
+     * @param request tokens to validate
+     * @return one claims result per token
+     */
+    @PostMapping("/validate/batch")
+    public ResponseEntity<?> validateTokenBatch(@RequestBody BatchValidateRequest request) {
+        List<String> tokens = request.getTokens();
+        if (tokens == null || tokens.isEmpty() || tokens.size() > maxValidationBatchSize) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "Between 1 and " + maxValidationBatchSize + " tokens are required");
+            response.put("timestamp", System.currentTimeMillis());
+            return ResponseEntity.badRequest().body(response);
+        }
+        
+        try {
+            long now = Instant.now().getEpochSecond();
+            long cacheSeconds = validationCacheSeconds;
+            int valid = 0;
+            List<TokenClaims> results = new ArrayList<>(tokens.size());
+            for (String token : tokens) {
+                TokenClaims claims = tokenValidationService.validate(token);
+                if (claims.valid()) {
+                    cacheSeconds = Math.min(cacheSeconds, claims.secondsToExpiry(now));
+                    valid++;
+                }
+                results.add(claims);
+            }
+            
+            logger.debug("🔍 Batch validation: {} of {} tokens valid", valid, tokens.size());
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("results", results);
+            response.put("count", results.size());
+            response.put("validCount", valid);
+            
+            return ResponseEntity.ok()
+                    .cacheControl(validationCacheControl(cacheSeconds))
+                    .body(response);
+            
+        } catch (ServiceUnavailableException e) {
+            return serviceBusy(e);
+        }
+    }
+    
+    private CacheControl validationCacheControl(long secondsToExpiry) {
+        long maxAge = Math.min(validationCacheSeconds, secondsToExpiry);
+        return maxAge > 0 ? CacheControl.maxAge(maxAge, TimeUnit.SECONDS).cachePrivate() : CacheControl.noStore();
+    }
+    
     /**
      * Verify user email using verification token
      * @param token verification token from email link
@@ -232,7 +358,7 @@ public class AuthController {
      */
     @GetMapping("/verify")
     public ResponseEntity<?> verifyEmail(@RequestParam("token") String token) {
-        logger.info("📧 Email verification request received for token: {}", token);
+        logger.info("📧 Email verification request received");
         
         try {
             boolean verificationSuccessful = authService.verifyEmail(token);
@@ -246,7 +372,7 @@ public class AuthController {
                 response.put("title", "Email Verification Successful");
                 response.put("redirectUrl", "/login");
                 
-                logger.info("✅ Email verification successful for token: {}", token);
+                logger.info("✅ Email verification successful");
                 return ResponseEntity.ok(response);
             } else {
                 response.put("success", false);
@@ -254,12 +380,12 @@ public class AuthController {
                 response.put("title", "Email Verification Failed");
                 response.put("canResend", true);
                 
-                logger.warn("❌ Email verification failed for token: {}", token);
+                logger.warn("❌ Email verification failed: invalid or expired token");
                 return ResponseEntity.badRequest().body(response);
             }
             
         } catch (Exception e) {
-            logger.error("❌ Email verification error for token {}: {}", token, e.getMessage(), e);
+            logger.error("❌ Email verification error: {}", e.getMessage(), e);
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", false);
@@ -518,6 +644,8 @@ public class AuthController {
                 return ResponseEntity.badRequest().body(response);
             }
             
+        } catch (ServiceUnavailableException e) {
+            return serviceBusy(e);
         } catch (Exception e) {
             logger.error("❌ Password reset error for {}: {}", request.email, e.getMessage(), e);
             
@@ -613,6 +741,8 @@ public class AuthController {
                 return ResponseEntity.badRequest().body(response);
             }
             
+        } catch (ServiceUnavailableException e) {
+            return serviceBusy(e);
         } catch (Exception e) {
             logger.error("❌ Change password error: {}", e.getMessage(), e);
             
@@ -773,6 +903,17 @@ public class AuthController {
         public void setEmail(String email) { this.email = email; }
     }
     
+    /**
+     * Batch token validation request DTO
+     */
+    public static class BatchValidateRequest {
+        private List<String> tokens;
+        
+        // Getters and setters
+        public List<String> getTokens() { return tokens; }
+        public void setTokens(List<String> tokens) { this.tokens = tokens; }
+    }
+    
     /**
      * Reset password request DTO
      */
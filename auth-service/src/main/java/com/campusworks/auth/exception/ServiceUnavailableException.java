@@ -0,0 +1,16 @@
+package com.campusworks.auth.exception;
+
+/**
+ * Service Unavailable Exception
+ * Thrown when the service sheds load instead of queueing more work
+ */
+public class ServiceUnavailableException extends RuntimeException {
+    
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+    
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
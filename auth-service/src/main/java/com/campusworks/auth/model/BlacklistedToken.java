@@ -13,7 +13,10 @@ import java.time.LocalDateTime;
  * Represents tokens that have been invalidated through logout
  */
 @Entity
-@Table(name = "blacklisted_tokens")
+@Table(name = "blacklisted_tokens", indexes = {
+        @Index(name = "idx_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_blacklisted_at", columnList = "blacklisted_at")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -10,10 +10,14 @@ import java.time.LocalDateTime;
 
 /**
  * Email Verification Token Entity
- * Stores tokens for email verification during user registration
+ * Stores tokens for email verification during user registration.
+ * Only the SHA-256 hash of a token is stored; the token itself exists in the email sent to the user.
  */
 @Entity
-@Table(name = "verification_tokens")
+@Table(name = "verification_tokens", indexes = {
+        @Index(name = "idx_verification_tokens_expiry_date", columnList = "expiry_date"),
+        @Index(name = "idx_verification_tokens_used_at", columnList = "used_at")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -24,7 +28,12 @@ public class VerificationToken {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true)
+    /** Base64url SHA-256 of the token; kept in the original column so its unique index carries over */
+    @Column(name = "token", nullable = false, unique = true)
+    private String tokenHash;
+
+    /** The token itself, only set on a freshly issued instance so it can be emailed */
+    @Transient
     private String token;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -32,6 +32,14 @@ public interface BlacklistedTokenRepository extends JpaRepository<BlacklistedTok
      */
     Optional<BlacklistedToken> findByTokenJti(String tokenJti);
     
+    /**
+     * Find tokens blacklisted at or after the given time that have not expired yet
+     * @param since lower bound of blacklistedAt
+     * @param now current timestamp
+     * @return jti, expiry and blacklisting time of each token
+     */
+    List<RevokedTokenView> findRevokedViewsByBlacklistedAtGreaterThanEqualAndExpiresAtAfter(LocalDateTime since, LocalDateTime now);
+    
     /**
      * Find all blacklisted tokens for a user
      * @param userId the user ID
@@ -40,15 +48,25 @@ public interface BlacklistedTokenRepository extends JpaRepository<BlacklistedTok
     List<BlacklistedToken> findByUserId(Long userId);
     
     /**
-     * Delete expired blacklisted tokens
+     * Find the id range of expired blacklisted tokens
+     * @param now current timestamp
+     * @return lowest and highest id, both null if nothing has expired
+     */
+    @Query("SELECT new com.campusworks.auth.repo.IdRange(MIN(bt.id), MAX(bt.id)) FROM BlacklistedToken bt WHERE bt.expiresAt < :now")
+    IdRange findExpiredIdRange(@Param("now") LocalDateTime now);
+    
+    /**
+     * Delete expired blacklisted tokens within one id window
      * This is used for cleanup to prevent the table from growing indefinitely
+     * @param fromId first id of the window
+     * @param toId first id after the window
      * @param now current timestamp
      * @return number of deleted records
      */
     @Modifying
     @Transactional
-    @Query("DELETE FROM BlacklistedToken bt WHERE bt.expiresAt < :now")
-    int deleteExpiredTokens(@Param("now") LocalDateTime now);
+    @Query("DELETE FROM BlacklistedToken bt WHERE bt.id >= :fromId AND bt.id < :toId AND bt.expiresAt < :now")
+    int deleteExpiredTokensBetween(@Param("fromId") long fromId, @Param("toId") long toId, @Param("now") LocalDateTime now);
     
     /**
      * Count blacklisted tokens for a user
@@ -0,0 +1,12 @@
+package com.campusworks.auth.repo;
+
+/**
+ * Id Range
+ * Lowest and highest primary key of the rows matching a query; both null when none match
+ */
+public record IdRange(Long minId, Long maxId) {
+
+    public boolean isEmpty() {
+        return minId == null || maxId == null;
+    }
+}
@@ -0,0 +1,10 @@
+package com.campusworks.auth.repo;
+
+import java.time.LocalDateTime;
+
+/**
+ * Revoked Token View
+ * Projection of a blacklisted token with only what the in-memory revocation cache needs
+ */
+public record RevokedTokenView(String tokenJti, LocalDateTime expiresAt, LocalDateTime blacklistedAt) {
+}
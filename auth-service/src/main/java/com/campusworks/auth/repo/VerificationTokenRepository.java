@@ -18,9 +18,9 @@ import java.util.Optional;
 public interface VerificationTokenRepository extends JpaRepository<VerificationToken, Long> {
 
     /**
-     * Find verification token by token string
+     * Find verification token by the hash of its token string
      */
-    Optional<VerificationToken> findByToken(String token);
+    Optional<VerificationToken> findByTokenHash(String tokenHash);
 
     /**
      * Find verification token by user
@@ -32,11 +32,6 @@ public interface VerificationTokenRepository extends JpaRepository<VerificationT
      */
     Optional<VerificationToken> findByUserAndTokenType(User user, VerificationToken.TokenType tokenType);
 
-    /**
-     * Check if token exists and is not used
-     */
-    boolean existsByTokenAndUsedFalse(String token);
-
     /**
      * Delete all tokens for a specific user
      */
@@ -44,22 +39,45 @@ public interface VerificationTokenRepository extends JpaRepository<VerificationT
 
     /**
      * Delete all tokens for a specific user and token type
+     * A single DELETE statement instead of loading each token first
      */
+    @Modifying
+    @Query("DELETE FROM VerificationToken t WHERE t.user = ?1 AND t.tokenType = ?2")
     void deleteByUserAndTokenType(User user, VerificationToken.TokenType tokenType);
 
     /**
-     * Delete all expired tokens (cleanup task)
+     * Mark a token used unless it already is
+     * @return 1 if this call consumed the token, 0 if it was already used
+     */
+    @Modifying
+    @Query("UPDATE VerificationToken t SET t.used = true, t.usedAt = ?2 WHERE t.id = ?1 AND t.used = false")
+    int markUsedIfUnused(Long id, LocalDateTime usedAt);
+
+    /**
+     * Find the id range of expired tokens (cleanup task)
+     */
+    @Query("SELECT new com.campusworks.auth.repo.IdRange(MIN(t.id), MAX(t.id)) FROM VerificationToken t WHERE t.expiryDate <= ?1")
+    IdRange findExpiredIdRange(LocalDateTime now);
+
+    /**
+     * Delete expired tokens within one id window
      */
     @Modifying
     @Transactional
-    @Query("DELETE FROM VerificationToken t WHERE t.expiryDate <= ?1")
-    void deleteExpiredTokens(LocalDateTime now);
+    @Query("DELETE FROM VerificationToken t WHERE t.id >= ?1 AND t.id < ?2 AND t.expiryDate <= ?3")
+    int deleteExpiredTokensBetween(long fromId, long toId, LocalDateTime now);
+
+    /**
+     * Find the id range of used tokens older than specified date
+     */
+    @Query("SELECT new com.campusworks.auth.repo.IdRange(MIN(t.id), MAX(t.id)) FROM VerificationToken t WHERE t.used = true AND t.usedAt <= ?1")
+    IdRange findUsedIdRange(LocalDateTime cutoffDate);
 
     /**
-     * Delete all used tokens older than specified date
+     * Delete used tokens older than specified date within one id window
      */
     @Modifying
     @Transactional
-    @Query("DELETE FROM VerificationToken t WHERE t.used = true AND t.usedAt <= ?1")
-    void deleteUsedTokensOlderThan(LocalDateTime cutoffDate);
+    @Query("DELETE FROM VerificationToken t WHERE t.id >= ?1 AND t.id < ?2 AND t.used = true AND t.usedAt <= ?3")
+    int deleteUsedTokensBetween(long fromId, long toId, LocalDateTime cutoffDate);
 }
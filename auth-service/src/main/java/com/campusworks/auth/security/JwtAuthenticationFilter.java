@@ -36,6 +36,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsService userDetailsService;
     
+    /**
+     * The claims-only validation endpoints check the token themselves without a user lookup
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getServletPath();
+        return path.equals("/auth/validate/claims") || path.equals("/auth/validate/batch");
+    }
+    
     @Override
     protected void doFilterInternal(
             HttpServletRequest request,
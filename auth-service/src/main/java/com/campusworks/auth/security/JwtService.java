@@ -1,8 +1,11 @@
 package com.campusworks.auth.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,7 +20,8 @@ import java.util.UUID;
 
 /**
  * JWT Service
- * Handles JWT token generation, validation, and claim extraction
+ * Handles JWT token generation, validation, and claim extraction.
+ * The signing key and parser are built once; both are immutable and thread-safe.
  */
 @Service
 public class JwtService {
@@ -30,6 +34,15 @@ public class JwtService {
     @Value("${security.jwt.expiration}")
     private Long jwtExpiration;
     
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+    
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parser().verifyWith(signingKey).build();
+    }
+    
     /**
      * Generate JWT token for user
      * @param userId user's unique identifier
@@ -44,8 +57,6 @@ public class JwtService {
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
         String jti = UUID.randomUUID().toString(); // Unique token identifier
         
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-        
         String token = Jwts.builder()
                 .subject(userId)
                 .id(jti) // Add JTI for token identification
@@ -53,7 +64,7 @@ public class JwtService {
                 .claim("roles", role)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(key, Jwts.SIG.HS256)
+                .signWith(signingKey, Jwts.SIG.HS256)
                 .compact();
         
         logger.debug("✅ JWT token generated successfully for user: {} with JTI: {}", userId, jti);
@@ -67,18 +78,24 @@ public class JwtService {
      */
     public Claims extractClaims(String token) {
         try {
-            SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-            return Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (Exception e) {
             logger.error("❌ Error extracting claims from JWT token: {}", e.getMessage());
             throw new RuntimeException("Invalid JWT token", e);
         }
     }
     
+    /**
+     * Verify the signature and expiry and return the claims, without logging
+     * For high-volume callers that map failures themselves
+     * @param token JWT token string
+     * @return Claims object containing token data
+     * @throws JwtException if the token is malformed, has a bad signature or has expired
+     */
+    public Claims parseClaims(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+    
     /**
      * Validate JWT token
      * @param token JWT token string
@@ -86,8 +103,7 @@ public class JwtService {
      */
     public boolean validateToken(String token) {
         try {
-            SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+            jwtParser.parseSignedClaims(token);
             return true;
         } catch (Exception e) {
             logger.warn("❌ JWT token validation failed: {}", e.getMessage());
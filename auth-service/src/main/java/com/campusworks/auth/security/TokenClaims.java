@@ -0,0 +1,35 @@
+package com.campusworks.auth.security;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Token Claims
+ * Result of validating one access token: the claims when it is valid, otherwise the reason
+ * (malformed, expired or revoked)
+ */
+public record TokenClaims(boolean valid,
+                          String userId,
+                          String email,
+                          String role,
+                          String jti,
+                          Long expiresAt,
+                          String reason) {
+
+    public static TokenClaims of(Claims claims) {
+        return new TokenClaims(true, claims.getSubject(), claims.get("email", String.class),
+                claims.get("roles", String.class), claims.getId(),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant().getEpochSecond() : null,
+                null);
+    }
+
+    public static TokenClaims invalid(String reason) {
+        return new TokenClaims(false, null, null, null, null, null, reason);
+    }
+
+    /**
+     * Seconds until the token expires, 0 if it is invalid
+     */
+    public long secondsToExpiry(long nowEpochSecond) {
+        return valid && expiresAt != null ? Math.max(0, expiresAt - nowEpochSecond) : 0;
+    }
+}
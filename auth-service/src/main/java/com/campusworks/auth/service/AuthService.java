@@ -1,17 +1,18 @@
 package com.campusworks.auth.service;
 
+import com.campusworks.auth.exception.ServiceUnavailableException;
 import com.campusworks.auth.model.User;
 import com.campusworks.auth.model.VerificationToken;
 import com.campusworks.auth.repo.UserRepository;
-import java.util.Optional;
 import com.campusworks.auth.security.JwtService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -19,6 +20,8 @@ import java.util.Optional;
 /**
  * Auth Service
  * Handles user registration, authentication, and JWT token generation
+ * Methods that hash passwords run without a surrounding transaction and only open one
+ * for the final write, so no connection is held while waiting on the hashing pool.
  */
 @Service
 public class AuthService {
@@ -29,7 +32,7 @@ public class AuthService {
     private UserRepository userRepository;
     
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
     
     @Autowired
     private JwtService jwtService;
@@ -46,6 +49,9 @@ public class AuthService {
     @Autowired
     private EmailService emailService;
     
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
     /**
      * Register a new user with email verification
      * All new registrations default to STUDENT role and require email verification
@@ -53,7 +59,7 @@ public class AuthService {
      * @param password user's password
      * @return created user object
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User register(String email, String password) {
         logger.info("📝 Attempting to register user with email: {}", email);
         
@@ -70,35 +76,40 @@ public class AuthService {
             throw new RuntimeException("User with this email already exists");
         }
         
-        // Create new user with STUDENT role by default (disabled until email verification)
-        User user = User.builder()
-                .email(email.toLowerCase().trim())
-                .password(passwordEncoder.encode(password))
-                .role(User.UserRole.STUDENT) // Default to STUDENT role
-                .enabled(false) // Disabled until email verification
-                .emailVerified(false)
-                .build();
-        
-        User savedUser = userRepository.save(user);
-        logger.info("✅ User registered successfully: {} with ID: {} and role: {} (email verification required)", 
-                   email, savedUser.getId(), savedUser.getRole());
+        // Hash before opening the transaction
+        String encodedPassword = passwordHashingService.encode(password);
         
-        // Generate and send verification email
-        try {
-            VerificationToken verificationToken = verificationTokenService.generateVerificationToken(savedUser);
-            boolean emailSent = emailService.sendVerificationEmail(savedUser, verificationToken);
-            
-            if (emailSent) {
-                logger.info("📧 Verification email sent successfully to: {}", email);
-            } else {
-                logger.warn("⚠️ Failed to send verification email to: {} - user can request resend", email);
+        return transactionTemplate.execute(status -> {
+            // Create new user with STUDENT role by default (disabled until email verification)
+            User user = User.builder()
+                    .email(email.toLowerCase().trim())
+                    .password(encodedPassword)
+                    .role(User.UserRole.STUDENT) // Default to STUDENT role
+                    .enabled(false) // Disabled until email verification
+                    .emailVerified(false)
+                    .build();
+            
+            User savedUser = userRepository.save(user);
+            logger.info("✅ User registered successfully: {} with ID: {} and role: {} (email verification required)", 
+                       email, savedUser.getId(), savedUser.getRole());
+            
+            // Generate and send verification email
+            try {
+                VerificationToken verificationToken = verificationTokenService.generateVerificationToken(savedUser);
+                boolean emailSent = emailService.sendVerificationEmail(savedUser, verificationToken);
+                
+                if (emailSent) {
+                    logger.info("📧 Verification email queued for: {}", email);
+                } else {
+                    logger.warn("⚠️ Could not queue verification email to: {} - user can request resend", email);
+                }
+            } catch (Exception e) {
+                logger.error("❌ Failed to send verification email to {}: {}", email, e.getMessage(), e);
+                // Don't throw exception here - user is registered but needs to request email resend
             }
-        } catch (Exception e) {
-            logger.error("❌ Failed to send verification email to {}: {}", email, e.getMessage(), e);
-            // Don't throw exception here - user is registered but needs to request email resend
-        }
-        
-        return savedUser;
+            
+            return savedUser;
+        });
     }
     
     /**
@@ -117,7 +128,7 @@ public class AuthService {
         }
         
         User user = userOpt.get();
-        if (!passwordEncoder.matches(password, user.getPassword())) {
+        if (!passwordHashingService.matches(password, user.getPassword())) {
             logger.warn("❌ Login failed: Invalid password for user {}", email);
             throw new RuntimeException("Invalid credentials");
         }
@@ -132,6 +143,11 @@ public class AuthService {
             }
         }
         
+        // Re-hash with the current cost if the stored hash is weaker
+        if (passwordHashingService.needsUpgrade(user.getPassword())) {
+            upgradePasswordHash(user, password);
+        }
+        
         // Generate JWT token
         String token = jwtService.generateToken(
             user.getId().toString(), 
@@ -143,6 +159,20 @@ public class AuthService {
         return token;
     }
     
+    /**
+     * Upgrade a user's password hash to the configured BCrypt cost
+     * Failures are logged and ignored - the old hash keeps working
+     */
+    private void upgradePasswordHash(User user, String rawPassword) {
+        try {
+            user.setPassword(passwordHashingService.encode(rawPassword));
+            userRepository.save(user);
+            logger.info("🔐 Upgraded password hash for user {}", user.getEmail());
+        } catch (Exception e) {
+            logger.warn("⚠️ Could not upgrade password hash for user {}: {}", user.getEmail(), e.getMessage());
+        }
+    }
+    
     /**
      * Find user by email
      * @param email user's email address
@@ -234,7 +264,7 @@ public class AuthService {
      */
     @Transactional
     public boolean verifyEmail(String token) {
-        logger.info("📧 Attempting to verify email with token: {}", token);
+        logger.info("📧 Attempting to verify email");
         
         try {
             // Validate and use the token
@@ -264,7 +294,7 @@ public class AuthService {
             // Send welcome email
             try {
                 emailService.sendWelcomeEmail(user);
-                logger.info("📧 Welcome email sent to: {}", user.getEmail());
+                logger.info("📧 Welcome email queued for: {}", user.getEmail());
             } catch (Exception e) {
                 logger.warn("⚠️ Failed to send welcome email to {}: {}", user.getEmail(), e.getMessage());
                 // Don't fail verification if welcome email fails
@@ -281,7 +311,7 @@ public class AuthService {
     /**
      * Resend verification email
      * @param email user's email address
-     * @return true if email sent successfully
+     * @return true if the email was queued for delivery
      */
     @Transactional
     public boolean resendVerificationEmail(String email) {
@@ -308,9 +338,9 @@ public class AuthService {
             boolean emailSent = emailService.sendVerificationEmail(user, verificationToken);
             
             if (emailSent) {
-                logger.info("✅ Verification email resent successfully to: {}", email);
+                logger.info("✅ Verification email queued again for: {}", email);
             } else {
-                logger.error("❌ Failed to resend verification email to: {}", email);
+                logger.error("❌ Could not queue verification email to: {}", email);
             }
             
             return emailSent;
@@ -357,7 +387,7 @@ public class AuthService {
     /**
      * Forgot password - send reset email
      * @param email user's email address
-     * @return true if reset email sent successfully
+     * @return true if the reset email was queued for delivery
      */
     @Transactional
     public boolean forgotPassword(String email) {
@@ -375,16 +405,16 @@ public class AuthService {
             
             // Generate password reset token
             VerificationToken resetToken = verificationTokenService.generatePasswordResetToken(user);
-            logger.debug("🔍 Generated password reset token: {} (Type: {}, Expires: {})", 
-                        resetToken.getToken(), resetToken.getTokenType(), resetToken.getExpiryDate());
+            logger.debug("🔍 Generated password reset token (Type: {}, Expires: {})", 
+                        resetToken.getTokenType(), resetToken.getExpiryDate());
             
             // Send password reset email
             boolean emailSent = emailService.sendPasswordResetEmail(user, resetToken);
             
             if (emailSent) {
-                logger.info("✅ Password reset email sent successfully to: {}", email);
+                logger.info("✅ Password reset email queued for: {}", email);
             } else {
-                logger.error("❌ Failed to send password reset email to: {}", email);
+                logger.error("❌ Could not queue password reset email to: {}", email);
             }
             
             return emailSent;
@@ -402,80 +432,111 @@ public class AuthService {
      * @param newPassword new password
      * @return true if password reset successfully
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public boolean resetPassword(String token, String email, String newPassword) {
         logger.info("🔑 Password reset request for: {}", email);
         
         try {
-            // First, find the token without validating it yet
-            Optional<VerificationToken> tokenOpt = verificationTokenService.findByToken(token);
-            if (tokenOpt.isEmpty()) {
-                logger.warn("❌ Password reset failed: Token not found: {}", token);
-                return false;
-            }
-            
-            VerificationToken resetToken = tokenOpt.get();
-            logger.debug("🔍 Found reset token: {} (Type: {}, Used: {}, Expired: {})", 
-                        token, resetToken.getTokenType(), resetToken.isUsed(), resetToken.isExpired());
-            
-            // Check if it's a password reset token
-            if (resetToken.getTokenType() != VerificationToken.TokenType.PASSWORD_RESET) {
-                logger.warn("❌ Password reset failed: Token is not a password reset token. Type: {}", resetToken.getTokenType());
+            // Check the token before spending a hash on it
+            Boolean usable = transactionTemplate.execute(status -> findUsableResetToken(token, email).isPresent());
+            if (!Boolean.TRUE.equals(usable)) {
                 return false;
             }
             
-            // Check if token is used
-            if (resetToken.isUsed()) {
-                logger.warn("❌ Password reset failed: Token already used: {}", token);
+            // Hash without holding a connection
+            String encodedPassword = passwordHashingService.encode(newPassword);
+            
+            // Re-check in the write transaction, then consume the token with a conditional
+            // UPDATE so a concurrent reset with the same token cannot also succeed
+            Boolean reset = transactionTemplate.execute(status -> findUsableResetToken(token, email)
+                    .map(resetToken -> {
+                        if (!verificationTokenService.consumeToken(resetToken)) {
+                            logger.warn("❌ Password reset failed: Token already used (ID: {})", resetToken.getId());
+                            return false;
+                        }
+                        
+                        // Update password
+                        User user = resetToken.getUser();
+                        user.setPassword(encodedPassword);
+                        userRepository.save(user);
+                        return true;
+                    })
+                    .orElse(false));
+            
+            if (!Boolean.TRUE.equals(reset)) {
                 return false;
             }
             
-            // Check if token is expired
-            if (resetToken.isExpired()) {
-                logger.warn("❌ Password reset failed: Token expired: {} (expired at: {})", token, resetToken.getExpiryDate());
-                return false;
-            }
-            
-            // Get user from token
-            User user = resetToken.getUser();
-            if (user == null) {
-                logger.warn("❌ Password reset failed: User not found for token");
-                return false;
-            }
-            
-            logger.debug("🔍 Found user: {} (ID: {})", user.getEmail(), user.getId());
-            
-            // Verify email matches
-            if (!user.getEmail().equals(email)) {
-                logger.warn("❌ Password reset failed: Email mismatch. Token email: {}, Request email: {}", user.getEmail(), email);
-                return false;
-            }
-            
-            // Mark token as used
-            resetToken.markAsUsed();
-            verificationTokenService.saveToken(resetToken);
-            
-            // Update password
-            String encodedPassword = passwordEncoder.encode(newPassword);
-            user.setPassword(encodedPassword);
-            userRepository.save(user);
-            
             logger.info("✅ Password reset successfully for: {}", email);
             return true;
             
+        } catch (ServiceUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("❌ Password reset failed for {}: {}", email, e.getMessage(), e);
             return false;
         }
     }
     
+    /**
+     * Look up a password reset token that is unused, unexpired and belongs to the given email
+     * Must be called inside a transaction - the token's user is loaded lazily
+     */
+    private Optional<VerificationToken> findUsableResetToken(String token, String email) {
+        // First, find the token without validating it yet
+        Optional<VerificationToken> tokenOpt = verificationTokenService.findByToken(token);
+        if (tokenOpt.isEmpty()) {
+            logger.warn("❌ Password reset failed: Token not found");
+            return Optional.empty();
+        }
+        
+        VerificationToken resetToken = tokenOpt.get();
+        logger.debug("🔍 Found reset token (ID: {}, Type: {}, Used: {}, Expired: {})", 
+                    resetToken.getId(), resetToken.getTokenType(), resetToken.isUsed(), resetToken.isExpired());
+        
+        // Check if it's a password reset token
+        if (resetToken.getTokenType() != VerificationToken.TokenType.PASSWORD_RESET) {
+            logger.warn("❌ Password reset failed: Token is not a password reset token. Type: {}", resetToken.getTokenType());
+            return Optional.empty();
+        }
+        
+        // Check if token is used
+        if (resetToken.isUsed()) {
+            logger.warn("❌ Password reset failed: Token already used (ID: {})", resetToken.getId());
+            return Optional.empty();
+        }
+        
+        // Check if token is expired
+        if (resetToken.isExpired()) {
+            logger.warn("❌ Password reset failed: Token expired (ID: {}, expired at: {})", resetToken.getId(), resetToken.getExpiryDate());
+            return Optional.empty();
+        }
+        
+        // Get user from token
+        User user = resetToken.getUser();
+        if (user == null) {
+            logger.warn("❌ Password reset failed: User not found for token");
+            return Optional.empty();
+        }
+        
+        logger.debug("🔍 Found user: {} (ID: {})", user.getEmail(), user.getId());
+        
+        // Verify email matches
+        if (!user.getEmail().equals(email)) {
+            logger.warn("❌ Password reset failed: Email mismatch. Token email: {}, Request email: {}", user.getEmail(), email);
+            return Optional.empty();
+        }
+        
+        return Optional.of(resetToken);
+    }
+    
     /**
      * Change password (authenticated user)
      * @param currentPassword current password
      * @param newPassword new password
      * @return true if password changed successfully
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public boolean changePassword(String currentPassword, String newPassword) {
         logger.info("🔑 Change password request");
         
@@ -505,19 +566,23 @@ public class AuthService {
             logger.debug("🔍 Found user: {} (ID: {})", user.getEmail(), user.getId());
             
             // Verify current password
-            if (!passwordEncoder.matches(currentPassword, user.getPassword())) {
+            if (!passwordHashingService.matches(currentPassword, user.getPassword())) {
                 logger.warn("❌ Change password failed: Invalid current password for {}", currentUserEmail);
                 return false;
             }
             
-            // Update password
-            String encodedPassword = passwordEncoder.encode(newPassword);
-            user.setPassword(encodedPassword);
-            userRepository.save(user);
+            // Hash without holding a connection, then write in a short transaction
+            String encodedPassword = passwordHashingService.encode(newPassword);
+            transactionTemplate.executeWithoutResult(status -> {
+                user.setPassword(encodedPassword);
+                userRepository.save(user);
+            });
             
             logger.info("✅ Password changed successfully for: {}", currentUserEmail);
             return true;
             
+        } catch (ServiceUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("❌ Change password failed: {}", e.getMessage(), e);
             return false;
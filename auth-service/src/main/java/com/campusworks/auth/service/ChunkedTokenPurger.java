@@ -0,0 +1,91 @@
+package com.campusworks.auth.service;
+
+import com.campusworks.auth.repo.IdRange;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chunked Token Purger
+ * Deletes rows in primary-key windows of batch-size ids, each in its own short transaction,
+ * pausing between windows. A window only locks its own rows, so token checks on the rest of
+ * the table never queue behind a cleanup that has to remove many rows.
+ */
+@Component
+public class ChunkedTokenPurger {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChunkedTokenPurger.class);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.token-cleanup.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.token-cleanup.pause-ms:100}")
+    private long pauseMs;
+
+    /**
+     * Deletes the matching rows of one id window [fromId, toId) in its own transaction
+     */
+    @FunctionalInterface
+    public interface ChunkDelete {
+        int delete(long fromId, long toId);
+    }
+
+    /**
+     * Walk the id range window by window
+     * @param table table name, used as the metrics tag
+     * @param range ids of the rows to delete, found up front
+     * @return rows deleted
+     */
+    public long purge(String table, IdRange range, ChunkDelete chunkDelete) {
+        if (range == null || range.isEmpty()) {
+            return 0;
+        }
+
+        Counter deletedCounter = Counter.builder("auth.token.cleanup.deleted")
+                .description("Rows removed by the token cleanup jobs")
+                .tag("table", table)
+                .register(meterRegistry);
+        Timer chunkTimer = Timer.builder("auth.token.cleanup.chunk")
+                .description("Time each cleanup chunk's DELETE transaction held its row locks")
+                .tag("table", table)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+
+        long deleted = 0;
+        int chunks = 0;
+        for (long fromId = range.minId(); fromId <= range.maxId(); fromId += batchSize) {
+            long windowStart = fromId;
+            long startTime = System.nanoTime();
+            int removed = chunkDelete.delete(windowStart, windowStart + batchSize);
+            chunkTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+
+            deletedCounter.increment(removed);
+            deleted += removed;
+            chunks++;
+
+            if (pauseMs > 0 && fromId + batchSize <= range.maxId()) {
+                try {
+                    Thread.sleep(pauseMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    logger.warn("⚠️ Cleanup of {} interrupted after {} rows", table, deleted);
+                    break;
+                }
+            }
+        }
+
+        logger.debug("🧹 Purged {} rows from {} in {} chunks (ids {}..{})",
+                deleted, table, chunks, range.minId(), range.maxId());
+        return deleted;
+    }
+}
@@ -0,0 +1,234 @@
+package com.campusworks.auth.service;
+
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailParseException;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Email Delivery Service
+ * Renders and sends emails on a small dedicated pool so request threads never wait for SMTP.
+ * The queue is bounded: when it is full new emails are rejected instead of piling up. Transient
+ * SMTP failures are retried with exponential backoff; authentication and message errors are not.
+ */
+@Service
+public class EmailDeliveryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailDeliveryService.class);
+
+    private static final ContextSnapshotFactory CONTEXT_SNAPSHOTS = ContextSnapshotFactory.builder().build();
+
+    @Autowired
+    private JavaMailSender mailSender;
+
+    @Autowired
+    private EmailTemplateRenderer templateRenderer;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObservationRegistry observationRegistry;
+
+    @Value("${spring.mail.username}")
+    private String fromEmail;
+
+    @Value("${app.mail.delivery.pool-size:2}")
+    private int poolSize;
+
+    @Value("${app.mail.delivery.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${app.mail.delivery.max-attempts:4}")
+    private int maxAttempts;
+
+    @Value("${app.mail.delivery.retry-backoff-ms:5000}")
+    private long retryBackoffMs;
+
+    @Value("${app.mail.delivery.retry-backoff-max-ms:120000}")
+    private long retryBackoffMaxMs;
+
+    @Value("${app.mail.delivery.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMs;
+
+    private ThreadPoolExecutor executor;
+    private ScheduledExecutorService retryScheduler;
+    private Counter sentCounter;
+    private Counter retriedCounter;
+    private Counter failedCounter;
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "mail-sender-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mail-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        sentCounter = outcomeCounter("sent");
+        retriedCounter = outcomeCounter("retried");
+        failedCounter = outcomeCounter("failed");
+        rejectedCounter = outcomeCounter("rejected");
+        Gauge.builder("auth.mail.queue.size", executor, pool -> pool.getQueue().size())
+                .description("Emails waiting for a mail worker")
+                .register(meterRegistry);
+
+        logger.info("📧 Mail delivery pool started with {} threads and queue capacity {}", poolSize, queueCapacity);
+    }
+
+    /**
+     * Let queued emails go out before shutdown; retries still waiting for their backoff are dropped
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        List<Runnable> pendingRetries = retryScheduler.shutdownNow();
+        executor.shutdown();
+        if (!executor.awaitTermination(shutdownTimeoutMs, TimeUnit.MILLISECONDS)) {
+            List<Runnable> unsent = executor.shutdownNow();
+            logger.warn("⚠️ Mail delivery stopped with {} emails still queued", unsent.size());
+        }
+        if (!pendingRetries.isEmpty()) {
+            logger.warn("⚠️ Mail delivery stopped with {} emails waiting to be retried", pendingRetries.size());
+        }
+    }
+
+    /**
+     * Queue an email for delivery
+     * Inside a transaction the email is queued once it commits, so a link never points at a
+     * token that was rolled back or is not visible yet
+     * @return false if the queue is full and the email was dropped
+     */
+    public boolean enqueue(OutgoingEmail email) {
+        ContextSnapshot snapshot = CONTEXT_SNAPSHOTS.captureAll();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (executor.getQueue().remainingCapacity() == 0) {
+                return reject(email);
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(email, 1, snapshot);
+                }
+            });
+            return true;
+        }
+        return submit(email, 1, snapshot);
+    }
+
+    private boolean submit(OutgoingEmail email, int attempt, ContextSnapshot snapshot) {
+        try {
+            executor.execute(snapshot.wrap(() -> deliver(email, attempt, snapshot)));
+            return true;
+        } catch (RejectedExecutionException e) {
+            return reject(email);
+        }
+    }
+
+    private boolean reject(OutgoingEmail email) {
+        rejectedCounter.increment();
+        logger.warn("⚠️ Mail queue is full ({} waiting) - dropping {} email to {}",
+                executor.getQueue().size(), email.kind(), email.to());
+        return false;
+    }
+
+    private void deliver(OutgoingEmail email, int attempt, ContextSnapshot snapshot) {
+        try {
+            MimeMessage message = buildMessage(email);
+            Observation.createNotStarted("mail.send", observationRegistry)
+                    .lowCardinalityKeyValue("email.kind", email.kind())
+                    .observe(() -> mailSender.send(message));
+
+            sentCounter.increment();
+            logger.info("✅ {} email sent to: {} (attempt {})", email.kind(), email.to(), attempt);
+
+        } catch (MailAuthenticationException | MailParseException | MailPreparationException e) {
+            failedCounter.increment();
+            logger.error("❌ {} email to {} cannot be sent: {}", email.kind(), email.to(), e.getMessage(), e);
+
+        } catch (MailException e) {
+            if (attempt >= maxAttempts) {
+                failedCounter.increment();
+                logger.error("❌ Giving up on {} email to {} after {} attempts: {}",
+                        email.kind(), email.to(), attempt, e.getMessage(), e);
+                return;
+            }
+            long delay = Math.min(retryBackoffMs << (attempt - 1), retryBackoffMaxMs);
+            retriedCounter.increment();
+            logger.warn("⚠️ {} email to {} failed (attempt {}), retrying in {} ms: {}",
+                    email.kind(), email.to(), attempt, delay, e.getMessage());
+            try {
+                retryScheduler.schedule(() -> submit(email, attempt + 1, snapshot), delay, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException shuttingDown) {
+                failedCounter.increment();
+            }
+
+        } catch (MessagingException | RuntimeException e) {
+            failedCounter.increment();
+            logger.error("❌ Failed to build {} email to {}: {}", email.kind(), email.to(), e.getMessage(), e);
+        }
+    }
+
+    private MimeMessage buildMessage(OutgoingEmail email) throws MessagingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, email.isHtml(), "UTF-8");
+        helper.setFrom(fromEmail);
+        helper.setTo(email.to());
+        helper.setSubject(email.subject());
+        if (email.isHtml()) {
+            helper.setText(templateRenderer.render(email.template(), email.variables()), true);
+        } else {
+            helper.setText(email.text());
+        }
+        return mimeMessage;
+    }
+
+    private Counter outcomeCounter(String outcome) {
+        return Counter.builder("auth.mail.delivery")
+                .description("Email delivery attempts by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,30 @@
+package com.campusworks.auth.service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Outgoing Email
+ * A message waiting for delivery: either a template with its variables or a plain-text body.
+ * Holds only values, never entities, because it is rendered and sent on a mail worker thread.
+ */
+public record OutgoingEmail(String to, String subject, String template, Map<String, Object> variables, String text) {
+
+    public static OutgoingEmail html(String to, String subject, String template, Map<String, Object> variables) {
+        return new OutgoingEmail(to, subject, template, Collections.unmodifiableMap(new HashMap<>(variables)), null);
+    }
+
+    public static OutgoingEmail text(String to, String subject, String text) {
+        return new OutgoingEmail(to, subject, null, Map.of(), text);
+    }
+
+    public boolean isHtml() {
+        return template != null;
+    }
+
+    /** Template name or "text", for logs and metrics */
+    public String kind() {
+        return isHtml() ? template.substring(template.lastIndexOf('/') + 1) : "text";
+    }
+}
@@ -0,0 +1,161 @@
+package com.campusworks.auth.service;
+
+import com.campusworks.auth.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Password Hashing Service
+ * Runs BCrypt on a dedicated bounded pool so hashing spikes cannot starve request threads.
+ * When the queue is full, callers are rejected immediately instead of waiting.
+ */
+@Service
+public class PasswordHashingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashingService.class);
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${security.password.hashing.pool-size:0}")
+    private int poolSize;
+
+    @Value("${security.password.hashing.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${security.password.hashing.timeout-ms:5000}")
+    private long timeoutMs;
+
+    private ThreadPoolExecutor executor;
+    private Timer encodeTimer;
+    private Timer matchesTimer;
+    private Timer queueWaitTimer;
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    public void init() {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        encodeTimer = Timer.builder("auth.password.hash")
+                .description("Time spent computing password hashes")
+                .tag("operation", "encode")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        matchesTimer = Timer.builder("auth.password.hash")
+                .description("Time spent computing password hashes")
+                .tag("operation", "matches")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        queueWaitTimer = Timer.builder("auth.password.hash.queue.wait")
+                .description("Time hashing tasks spent waiting for a free worker")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("auth.password.hash.rejected")
+                .description("Hashing requests rejected because the queue was full")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hash.queue.size", executor, pool -> pool.getQueue().size())
+                .description("Hashing tasks waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Hashing tasks currently running")
+                .register(meterRegistry);
+
+        logger.info("🔐 Password hashing pool started with {} threads and queue capacity {}", threads, queueCapacity);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Hash a raw password on the hashing pool
+     * @param rawPassword password to hash
+     * @return encoded password
+     */
+    public String encode(String rawPassword) {
+        return submit(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Check a raw password against a stored hash on the hashing pool
+     * @param rawPassword password supplied by the user
+     * @param encodedPassword stored hash
+     * @return true if the password matches
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Check whether a stored hash was produced with a lower cost than the configured one
+     * @param encodedPassword stored hash
+     * @return true if the password should be re-hashed
+     */
+    public boolean needsUpgrade(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(Timer timer, Callable<T> hashing) {
+        long queuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(hashing);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            logger.warn("⚠️ Password hashing queue is full ({} waiting) - rejecting request", executor.getQueue().size());
+            throw new ServiceUnavailableException("Server is busy. Please try again in a moment.");
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            logger.warn("⚠️ Password hashing timed out after {} ms", timeoutMs);
+            throw new ServiceUnavailableException("Server is busy. Please try again in a moment.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Password hashing was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Password hashing failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+}
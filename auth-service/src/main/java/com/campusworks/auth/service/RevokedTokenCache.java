@@ -0,0 +1,113 @@
+package com.campusworks.auth.service;
+
+import com.campusworks.auth.exception.ServiceUnavailableException;
+import com.campusworks.auth.repo.BlacklistedTokenRepository;
+import com.campusworks.auth.repo.RevokedTokenView;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revoked Token Cache
+ * JTIs of blacklisted tokens that have not expired yet, held in memory so token validation
+ * does not query blacklisted_tokens. Tokens blacklisted by this instance are added at once;
+ * those blacklisted by other instances are picked up by the refresh, by blacklistedAt.
+ * Entries are dropped once their token expires, since an expired token is rejected anyway.
+ */
+@Component
+public class RevokedTokenCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(RevokedTokenCache.class);
+
+    private static final LocalDateTime LOAD_FROM = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Autowired
+    private BlacklistedTokenRepository blacklistedTokenRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${security.revocation.refresh-overlap-seconds:30}")
+    private long refreshOverlapSeconds;
+
+    /** jti -> expiry of the revoked token */
+    private final Map<String, LocalDateTime> revoked = new ConcurrentHashMap<>();
+
+    // Only touched while holding the monitor
+    private LocalDateTime watermark = LOAD_FROM;
+
+    private volatile boolean loaded = false;
+
+    @PostConstruct
+    public void registerMetrics() {
+        Gauge.builder("auth.token.revocation.cache.size", revoked, Map::size)
+                .description("Unexpired blacklisted tokens held in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Check whether a token has been revoked
+     * @param jti the JWT ID
+     * @throws ServiceUnavailableException if the blacklist has never been loaded
+     */
+    public boolean isRevoked(String jti) {
+        if (!loaded) {
+            refresh();
+            if (!loaded) {
+                throw new ServiceUnavailableException("Token revocation list is not available yet");
+            }
+        }
+        return revoked.containsKey(jti);
+    }
+
+    /**
+     * Record a token this instance has just blacklisted
+     */
+    public void add(String jti, LocalDateTime expiresAt) {
+        revoked.put(jti, expiresAt);
+    }
+
+    /**
+     * Load tokens blacklisted since the last refresh (minus an overlap for transactions that
+     * committed late) and drop expired ones
+     */
+    @Scheduled(fixedDelayString = "${security.revocation.refresh-interval:5000}")
+    public synchronized void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        List<RevokedTokenView> changed;
+        try {
+            changed = blacklistedTokenRepository.findRevokedViewsByBlacklistedAtGreaterThanEqualAndExpiresAtAfter(
+                    loaded ? watermark.minusSeconds(refreshOverlapSeconds) : LOAD_FROM, now);
+        } catch (DataAccessException e) {
+            logger.warn("⚠️ Revoked token cache refresh failed, keeping {} entries: {}", revoked.size(), e.getMessage());
+            return;
+        }
+
+        for (RevokedTokenView token : changed) {
+            revoked.put(token.tokenJti(), token.expiresAt());
+            if (token.blacklistedAt() != null && token.blacklistedAt().isAfter(watermark)) {
+                watermark = token.blacklistedAt();
+            }
+        }
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+
+        if (!loaded) {
+            loaded = true;
+            logger.info("🚫 Revoked token cache loaded with {} unexpired blacklisted tokens", revoked.size());
+        } else if (!changed.isEmpty()) {
+            logger.debug("🚫 Revoked token cache refreshed {} tokens, {} held", changed.size(), revoked.size());
+        }
+    }
+}
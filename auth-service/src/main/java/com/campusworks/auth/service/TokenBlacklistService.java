@@ -29,6 +29,12 @@ public class TokenBlacklistService {
     @Autowired
     private JwtService jwtService;
     
+    @Autowired
+    private ChunkedTokenPurger chunkedTokenPurger;
+    
+    @Autowired
+    private RevokedTokenCache revokedTokenCache;
+    
     /**
      * Blacklist a token (logout)
      * @param token JWT token to blacklist
@@ -53,6 +59,7 @@ public class TokenBlacklistService {
             
             // Check if token is already blacklisted
             if (blacklistedTokenRepository.existsByTokenJti(jti)) {
+                revokedTokenCache.add(jti, expiresAt);
                 logger.info("⚠️ Token with JTI {} is already blacklisted", jti);
                 return true; // Already blacklisted, consider it successful
             }
@@ -67,6 +74,7 @@ public class TokenBlacklistService {
                     .build();
             
             blacklistedTokenRepository.save(blacklistedToken);
+            revokedTokenCache.add(jti, expiresAt);
             
             logger.info("✅ Token blacklisted successfully for user: {} with JTI: {}", email, jti);
             return true;
@@ -136,14 +144,16 @@ public class TokenBlacklistService {
     
     /**
      * Clean up expired blacklisted tokens
-     * Runs every hour to prevent database bloat
+     * Runs every hour to prevent database bloat; deletes in id chunks, each its own transaction,
+     * so blacklist checks are never blocked behind one long DELETE
      */
-    @Scheduled(fixedRate = 3600000) // Run every hour
-    @Transactional
+    @Scheduled(fixedDelayString = "${app.token-cleanup.interval:3600000}")
     public void cleanupExpiredTokens() {
         try {
             LocalDateTime now = LocalDateTime.now();
-            int deletedCount = blacklistedTokenRepository.deleteExpiredTokens(now);
+            long deletedCount = chunkedTokenPurger.purge("blacklisted_tokens",
+                    blacklistedTokenRepository.findExpiredIdRange(now),
+                    (fromId, toId) -> blacklistedTokenRepository.deleteExpiredTokensBetween(fromId, toId, now));
             
             if (deletedCount > 0) {
                 logger.info("🧹 Cleaned up {} expired blacklisted tokens", deletedCount);
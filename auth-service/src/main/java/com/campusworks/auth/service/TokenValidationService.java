@@ -0,0 +1,84 @@
+package com.campusworks.auth.service;
+
+import com.campusworks.auth.security.JwtService;
+import com.campusworks.auth.security.TokenClaims;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Token Validation Service
+ * Claims-only validation for services that authenticate their own connections (chat sockets,
+ * the gateway): signature and expiry are checked with the cached key, revocation against the
+ * in-memory blacklist. No database query and no user lookup per token.
+ */
+@Service
+public class TokenValidationService {
+
+    private static final List<String> RESULTS = List.of("valid", "missing", "invalid", "expired", "revoked");
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private RevokedTokenCache revokedTokenCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /** One counter per result, registered at startup instead of on every validation */
+    private final Map<String, Counter> resultCounters = new HashMap<>();
+
+    @PostConstruct
+    public void init() {
+        RESULTS.forEach(result -> resultCounters.put(result, Counter.builder("auth.token.validation")
+                .description("Claims-only token validations by result")
+                .tag("result", result)
+                .register(meterRegistry)));
+    }
+
+    /**
+     * Validate one access token
+     * @param token JWT token string, without the "Bearer " prefix
+     * @return the token's claims, or why it was rejected
+     */
+    public TokenClaims validate(String token) {
+        if (token == null || token.isBlank()) {
+            return rejected("missing");
+        }
+
+        Claims claims;
+        try {
+            claims = jwtService.parseClaims(token);
+        } catch (ExpiredJwtException e) {
+            return rejected("expired");
+        } catch (JwtException | IllegalArgumentException e) {
+            return rejected("invalid");
+        }
+
+        if (claims.getId() != null && revokedTokenCache.isRevoked(claims.getId())) {
+            return rejected("revoked");
+        }
+
+        resultCounter("valid").increment();
+        return TokenClaims.of(claims);
+    }
+
+    private TokenClaims rejected(String reason) {
+        resultCounter(reason).increment();
+        return TokenClaims.invalid(reason);
+    }
+
+    private Counter resultCounter(String result) {
+        return resultCounters.get(result);
+    }
+}
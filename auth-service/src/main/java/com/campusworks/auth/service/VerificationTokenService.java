@@ -7,25 +7,50 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
 import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.Optional;
-import java.util.UUID;
 
 /**
  * Service for managing email verification tokens
+ * Tokens are 256 random bits from SecureRandom, base64url-encoded (43 characters). Only their
+ * SHA-256 hash is stored, so a token is looked up by an exact match on an indexed fixed-length
+ * hash. Uniqueness is left to the unique index: a colliding insert is retried with a new token.
+ * The insert goes through JDBC on the caller's connection, because a failed JPA flush would mark
+ * the whole transaction rollback-only and the retry could never commit.
  */
 @Service
 public class VerificationTokenService {
 
     private static final Logger logger = LoggerFactory.getLogger(VerificationTokenService.class);
 
+    private static final int TOKEN_BYTES = 32;
+    private static final int MAX_INSERT_ATTEMPTS = 3;
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    private static final Base64.Encoder TOKEN_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final String INSERT_TOKEN_SQL =
+            "INSERT INTO verification_tokens (token, user_id, expiry_date, used, created_at, token_type) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
     @Autowired
     private VerificationTokenRepository tokenRepository;
 
+    @Autowired
+    private ChunkedTokenPurger chunkedTokenPurger;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Value("${app.verification.token.expiry:24}")
     private int tokenExpiryHours;
 
@@ -39,21 +64,9 @@ public class VerificationTokenService {
         // Delete any existing tokens for this user
         deleteExistingTokensForUser(user);
 
-        // Create new token
-        String tokenValue = generateUniqueToken();
-        LocalDateTime expiryDate = LocalDateTime.now().plusHours(tokenExpiryHours);
-
-        VerificationToken token = VerificationToken.builder()
-                .token(tokenValue)
-                .user(user)
-                .expiryDate(expiryDate)
-                .tokenType(VerificationToken.TokenType.EMAIL_VERIFICATION)
-                .used(false)
-                .build();
-
-        token = tokenRepository.save(token);
+        VerificationToken token = issueToken(user, VerificationToken.TokenType.EMAIL_VERIFICATION);
         logger.info("✅ Verification token generated successfully for user: {} (expires: {})", 
-                   user.getEmail(), expiryDate);
+                   user.getEmail(), token.getExpiryDate());
 
         return token;
     }
@@ -68,21 +81,9 @@ public class VerificationTokenService {
         // Delete any existing password reset tokens for this user
         deleteExistingPasswordResetTokensForUser(user);
 
-        // Create new token
-        String tokenValue = generateUniqueToken();
-        LocalDateTime expiryDate = LocalDateTime.now().plusHours(tokenExpiryHours);
-
-        VerificationToken token = VerificationToken.builder()
-                .token(tokenValue)
-                .user(user)
-                .expiryDate(expiryDate)
-                .tokenType(VerificationToken.TokenType.PASSWORD_RESET)
-                .used(false)
-                .build();
-
-        token = tokenRepository.save(token);
+        VerificationToken token = issueToken(user, VerificationToken.TokenType.PASSWORD_RESET);
         logger.info("✅ Password reset token generated successfully for user: {} (expires: {})", 
-                   user.getEmail(), expiryDate);
+                   user.getEmail(), token.getExpiryDate());
 
         return token;
     }
@@ -94,7 +95,7 @@ public class VerificationTokenService {
         if (token == null || token.trim().isEmpty()) {
             return Optional.empty();
         }
-        return tokenRepository.findByToken(token.trim());
+        return tokenRepository.findByTokenHash(hashToken(token.trim()));
     }
 
     /**
@@ -102,23 +103,23 @@ public class VerificationTokenService {
      */
     @Transactional
     public boolean validateAndUseToken(String tokenValue) {
-        logger.info("🔍 Validating verification token: {}", tokenValue);
+        logger.info("🔍 Validating verification token");
 
         Optional<VerificationToken> tokenOpt = findByToken(tokenValue);
         if (tokenOpt.isEmpty()) {
-            logger.warn("❌ Token not found: {}", tokenValue);
+            logger.warn("❌ Token not found");
             return false;
         }
 
         VerificationToken token = tokenOpt.get();
 
         if (token.isUsed()) {
-            logger.warn("❌ Token already used: {}", tokenValue);
+            logger.warn("❌ Token already used (ID: {})", token.getId());
             return false;
         }
 
         if (token.isExpired()) {
-            logger.warn("❌ Token expired: {} (expired at: {})", tokenValue, token.getExpiryDate());
+            logger.warn("❌ Token expired (ID: {}, expired at: {})", token.getId(), token.getExpiryDate());
             return false;
         }
 
@@ -126,7 +127,7 @@ public class VerificationTokenService {
         token.markAsUsed();
         tokenRepository.save(token);
 
-        logger.info("✅ Token validated and marked as used: {}", tokenValue);
+        logger.info("✅ Token validated and marked as used (ID: {})", token.getId());
         return true;
     }
 
@@ -147,6 +148,15 @@ public class VerificationTokenService {
                 .orElse(false);
     }
     
+    /**
+     * Consume a token with a conditional UPDATE, so of two concurrent requests only one succeeds
+     * @return true if this call marked the token used
+     */
+    @Transactional
+    public boolean consumeToken(VerificationToken token) {
+        return tokenRepository.markUsedIfUnused(token.getId(), LocalDateTime.now()) == 1;
+    }
+
     /**
      * Save a token (for updating used status)
      */
@@ -195,35 +205,60 @@ public class VerificationTokenService {
     }
 
     /**
-     * Generate a unique token string
+     * Insert a token under a fresh random value, retrying on the (practically impossible)
+     * hash collision instead of checking for one first
+     * The returned instance carries the token itself for the email; it is not managed
      */
-    private String generateUniqueToken() {
-        String token;
-        int attempts = 0;
-        int maxAttempts = 10;
-
-        do {
-            token = UUID.randomUUID().toString().replace("-", "");
-            attempts++;
-            
-            if (attempts > maxAttempts) {
-                logger.warn("⚠️ Max attempts reached for token generation, using UUID with timestamp");
-                token = UUID.randomUUID().toString().replace("-", "") + System.currentTimeMillis();
-                break;
+    private VerificationToken issueToken(User user, VerificationToken.TokenType tokenType) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiryDate = now.plusHours(tokenExpiryHours);
+
+        for (int attempt = 1; attempt <= MAX_INSERT_ATTEMPTS; attempt++) {
+            String tokenValue = generateTokenValue();
+            String tokenHash = hashToken(tokenValue);
+
+            try {
+                jdbcTemplate.update(INSERT_TOKEN_SQL, tokenHash, user.getId(), expiryDate, false, now, tokenType.name());
+            } catch (DuplicateKeyException e) {
+                logger.warn("⚠️ Token hash collision on attempt {} for user: {}, generating a new token", attempt, user.getEmail());
+                continue;
             }
-            
-        } while (tokenRepository.existsByTokenAndUsedFalse(token));
+            return VerificationToken.builder()
+                    .token(tokenValue)
+                    .tokenHash(tokenHash)
+                    .user(user)
+                    .expiryDate(expiryDate)
+                    .createdAt(now)
+                    .tokenType(tokenType)
+                    .used(false)
+                    .build();
+        }
+        throw new IllegalStateException("Could not generate a unique token after " + MAX_INSERT_ATTEMPTS + " attempts");
+    }
 
-        logger.debug("🔑 Generated unique token in {} attempts", attempts);
-        return token;
+    /**
+     * 256 random bits, base64url without padding
+     */
+    private static String generateTokenValue() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        SECURE_RANDOM.nextBytes(bytes);
+        return TOKEN_ENCODER.encodeToString(bytes);
+    }
+
+    private static String hashToken(String tokenValue) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return TOKEN_ENCODER.encodeToString(digest.digest(tokenValue.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
 
     /**
      * Scheduled task to clean up expired tokens
-     * Runs every hour
+     * Runs every hour; deletes in id chunks, each its own transaction
      */
-    @Scheduled(fixedRate = 3600000) // 1 hour = 3600 * 1000 ms
-    @Transactional
+    @Scheduled(fixedDelayString = "${app.token-cleanup.interval:3600000}")
     public void cleanupExpiredTokens() {
         logger.info("🧹 Running scheduled cleanup of expired verification tokens...");
         
@@ -231,13 +266,18 @@ public class VerificationTokenService {
         
         try {
             // Delete expired tokens
-            tokenRepository.deleteExpiredTokens(now);
+            long expired = chunkedTokenPurger.purge("verification_tokens",
+                    tokenRepository.findExpiredIdRange(now),
+                    (fromId, toId) -> tokenRepository.deleteExpiredTokensBetween(fromId, toId, now));
             
             // Delete used tokens older than 7 days
             LocalDateTime sevenDaysAgo = now.minusDays(7);
-            tokenRepository.deleteUsedTokensOlderThan(sevenDaysAgo);
+            long used = chunkedTokenPurger.purge("verification_tokens",
+                    tokenRepository.findUsedIdRange(sevenDaysAgo),
+                    (fromId, toId) -> tokenRepository.deleteUsedTokensBetween(fromId, toId, sevenDaysAgo));
             
-            logger.info("✅ Expired verification tokens cleanup completed successfully");
+            logger.info("✅ Expired verification tokens cleanup completed: {} expired and {} used tokens removed",
+                    expired, used);
             
         } catch (Exception e) {
             logger.error("❌ Failed to cleanup expired tokens: {}", e.getMessage(), e);
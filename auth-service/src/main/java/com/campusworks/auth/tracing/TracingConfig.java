@@ -0,0 +1,25 @@
+package com.campusworks.auth.tracing;
+
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * Tracing Configuration
+ * Spring Boot sends every SpanExporter bean to the span processor, so exporters are pluggable:
+ * OTLP is enabled by setting management.otlp.tracing.endpoint, and the file exporter below by
+ * tracing.exporter.file.enabled=true.
+ */
+@Configuration
+public class TracingConfig {
+    
+    @Bean
+    @ConditionalOnProperty(name = "tracing.exporter.file.enabled", havingValue = "true")
+    public SpanExporter fileSpanExporter(@Value("${tracing.exporter.file.path:traces/${spring.application.name}.jsonl}") String path) {
+        return new FileSpanExporter(Path.of(path));
+    }
+}
@@ -0,0 +1,103 @@
+package com.campusworks.benchmarks;
+
+import com.campusworks.auth.security.JwtService;
+import com.campusworks.auth.service.EmailValidationService;
+import com.campusworks.bidding.model.Bid;
+import com.campusworks.gateway.security.JwtAuthFilter;
+import com.campusworks.task.model.Task;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmark Data
+ * Builds the services under test without a Spring context and generates deterministic
+ * fixtures, so every run measures the same inputs.
+ */
+final class BenchmarkData {
+    
+    /** HS256 secret used only by the benchmarks */
+    static final String JWT_SECRET = "benchmark-secret-key-for-campusworks-jmh-runs-0123456789abcdef";
+    static final long JWT_EXPIRATION_MS = 3_600_000L;
+    static final String COLLEGE_EMAIL_PATTERN = "^n\\d{6}@rguktn\\.ac\\.in$";
+    static final long SEED = 42L;
+    
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 9, 0);
+    
+    private BenchmarkData() {
+    }
+    
+    static JwtService jwtService() {
+        JwtService jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "jwtSecret", JWT_SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", JWT_EXPIRATION_MS);
+        // Builds the cached key and parser, as @PostConstruct would in the service
+        jwtService.init();
+        return jwtService;
+    }
+    
+    static JwtAuthFilter jwtAuthFilter() {
+        JwtAuthFilter filter = new JwtAuthFilter();
+        ReflectionTestUtils.setField(filter, "jwtSecret", JWT_SECRET);
+        ReflectionTestUtils.setField(filter, "jwtExpiration", JWT_EXPIRATION_MS);
+        filter.init();
+        return filter;
+    }
+    
+    static EmailValidationService emailValidationService() {
+        EmailValidationService service = new EmailValidationService();
+        ReflectionTestUtils.setField(service, "collegeEmailPattern", COLLEGE_EMAIL_PATTERN);
+        ReflectionTestUtils.setField(service, "collegeDomain", "rguktn.ac.in");
+        return service;
+    }
+    
+    static List<Bid> bids(int count, Random random) {
+        List<Bid> bids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long bidderId = 1000L + i;
+            bids.add(Bid.builder()
+                    .id((long) i + 1)
+                    .taskId(1L)
+                    .bidderId(bidderId)
+                    .bidderEmail(String.format("n%06d@rguktn.ac.in", bidderId))
+                    // Amounts repeat on purpose so the created-at and ID tie-breakers are exercised
+                    .amount(BigDecimal.valueOf(100 + random.nextInt(Math.max(count / 4, 1)), 0))
+                    .proposal("I can complete this task within the deadline with full documentation.")
+                    .status(Bid.BidStatus.PENDING)
+                    .isWinning(false)
+                    .isAccepted(false)
+                    .upiIdViewed(false)
+                    .createdAt(BASE_TIME.plusSeconds(random.nextInt(86_400)))
+                    .updatedAt(BASE_TIME)
+                    .build());
+        }
+        return bids;
+    }
+    
+    static List<Task> tasks(int count, Random random) {
+        Task.TaskCategory[] categories = Task.TaskCategory.values();
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long ownerId = 1L + random.nextInt(500);
+            tasks.add(Task.builder()
+                    .id((long) i + 1)
+                    .title("Task " + (i + 1) + ": lab record and assignment help")
+                    .description("Need help completing the weekly lab record, including diagrams and a short report.")
+                    .budget(BigDecimal.valueOf(200 + random.nextInt(800), 0))
+                    .category(categories[random.nextInt(categories.length)])
+                    .status(Task.TaskStatus.OPEN)
+                    .ownerId(ownerId)
+                    .ownerEmail(String.format("n%06d@rguktn.ac.in", ownerId))
+                    .biddingDeadline(BASE_TIME.plusDays(2))
+                    .completionDeadline(BASE_TIME.plusDays(7))
+                    .createdAt(BASE_TIME)
+                    .updatedAt(BASE_TIME)
+                    .build());
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,33 @@
+package com.campusworks.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark Runner
+ * Entry point of the shaded jar. Accepts the usual JMH command line options and, unless
+ * told otherwise, writes a JSON report to jmh-result.json so runs can be diffed between builds.
+ *
+ * Usage: java -jar target/benchmarks.jar [regexp] [jmh options]
+ */
+public class BenchmarkRunner {
+    
+    private static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+    
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        
+        if (!commandLine.getResult().hasValue()) {
+            options.result(DEFAULT_RESULT_FILE);
+        }
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        
+        new Runner(options.build()).run();
+    }
+}
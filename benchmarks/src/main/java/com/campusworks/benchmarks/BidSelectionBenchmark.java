@@ -0,0 +1,48 @@
+package com.campusworks.benchmarks;
+
+import com.campusworks.bidding.model.Bid;
+import com.campusworks.bidding.service.BiddingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Winning Bid Selection Benchmark
+ * Selects the winner over N pending bids with the same ordering used at deadline expiry.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class BidSelectionBenchmark {
+    
+    @Param({"10", "100", "1000", "10000"})
+    public int bidCount;
+    
+    private List<Bid> bids;
+    
+    @Setup
+    public void setUp() {
+        bids = BenchmarkData.bids(bidCount, new Random(BenchmarkData.SEED));
+    }
+    
+    @Benchmark
+    public Optional<Bid> selectWinningBid() {
+        return BiddingService.selectWinningBid(bids);
+    }
+}
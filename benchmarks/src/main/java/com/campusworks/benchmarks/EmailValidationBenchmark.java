@@ -0,0 +1,44 @@
+package com.campusworks.benchmarks;
+
+import com.campusworks.auth.service.EmailValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * College Email Validation Benchmark
+ * Covers a matching address, a wrong domain and an address that fails late in the pattern.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class EmailValidationBenchmark {
+    
+    @Param({"N210419@rguktn.ac.in", "n210419@gmail.com", "n2104190@rguktn.ac.in"})
+    public String email;
+    
+    private EmailValidationService emailValidationService;
+    
+    @Setup
+    public void setUp() {
+        emailValidationService = BenchmarkData.emailValidationService();
+    }
+    
+    @Benchmark
+    public boolean isValidCollegeEmail() {
+        return emailValidationService.isValidCollegeEmail(email);
+    }
+}
@@ -0,0 +1,81 @@
+package com.campusworks.benchmarks;
+
+import com.campusworks.gateway.security.JwtAuthFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gateway JWT Filter Benchmark
+ * Runs the full JwtAuthFilter against mock exchanges: a valid token, a token with a bad
+ * signature and a public endpoint that skips validation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class JwtAuthFilterBenchmark {
+    
+    private static final GatewayFilterChain PASS_THROUGH = exchange -> Mono.empty();
+    
+    private JwtAuthFilter filter;
+    private String validToken;
+    private String tamperedToken;
+    
+    @Setup
+    public void setUp() {
+        filter = BenchmarkData.jwtAuthFilter();
+        validToken = BenchmarkData.jwtService().generateToken("42", "n210419@rguktn.ac.in", "STUDENT");
+        tamperedToken = validToken.substring(0, validToken.length() - 2) + "xx";
+        
+        // Fail fast if the fixture is broken, rather than timing the rejection path
+        if (run("/tasks", validToken).getResponse().getStatusCode() != null) {
+            throw new IllegalStateException("Valid token was rejected by the filter");
+        }
+        if (!HttpStatus.UNAUTHORIZED.equals(run("/tasks", tamperedToken).getResponse().getStatusCode())) {
+            throw new IllegalStateException("Tampered token was not rejected with 401");
+        }
+    }
+    
+    @Benchmark
+    public MockServerWebExchange validToken() {
+        return run("/tasks", validToken);
+    }
+    
+    @Benchmark
+    public MockServerWebExchange invalidSignature() {
+        return run("/tasks", tamperedToken);
+    }
+    
+    @Benchmark
+    public MockServerWebExchange publicEndpoint() {
+        return run("/auth/login", null);
+    }
+    
+    private MockServerWebExchange run(String path, String token) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get(path);
+        if (token != null) {
+            request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        }
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        filter.filter(exchange, PASS_THROUGH).block();
+        return exchange;
+    }
+}
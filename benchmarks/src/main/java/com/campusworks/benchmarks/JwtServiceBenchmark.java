@@ -0,0 +1,48 @@
+package com.campusworks.benchmarks;
+
+import com.campusworks.auth.security.JwtService;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Auth JWT Service Benchmark
+ * Measures token issuing and claim extraction as done on every login and validate call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+    
+    private JwtService jwtService;
+    private String token;
+    
+    @Setup
+    public void setUp() {
+        jwtService = BenchmarkData.jwtService();
+        token = jwtService.generateToken("42", "n210419@rguktn.ac.in", "STUDENT");
+    }
+    
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken("42", "n210419@rguktn.ac.in", "STUDENT");
+    }
+    
+    @Benchmark
+    public Claims extractClaims() {
+        return jwtService.extractClaims(token);
+    }
+}
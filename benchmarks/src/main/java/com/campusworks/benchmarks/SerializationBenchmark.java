@@ -0,0 +1,65 @@
+package com.campusworks.benchmarks;
+
+import com.campusworks.bidding.model.Bid;
+import com.campusworks.task.model.Task;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON Serialization Benchmark
+ * Serializes Task and Bid lists the way the list endpoints do, using an ObjectMapper
+ * configured like Spring Boot's default (Java time module, ISO dates).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+    
+    @Param({"10", "100", "1000"})
+    public int size;
+    
+    private ObjectWriter writer;
+    private List<Task> tasks;
+    private List<Bid> bids;
+    
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        writer = objectMapper.writer();
+        tasks = BenchmarkData.tasks(size, new Random(BenchmarkData.SEED));
+        bids = BenchmarkData.bids(size, new Random(BenchmarkData.SEED));
+    }
+    
+    @Benchmark
+    public byte[] serializeTasks() throws JsonProcessingException {
+        return writer.writeValueAsBytes(tasks);
+    }
+    
+    @Benchmark
+    public byte[] serializeBids() throws JsonProcessingException {
+        return writer.writeValueAsBytes(bids);
+    }
+}
@@ -0,0 +1,4 @@
+package com.campusworks.benchmarks.jmh_generated;
+public class BidSelectionBenchmark_jmhType extends BidSelectionBenchmark_jmhType_B3 {
+}
+
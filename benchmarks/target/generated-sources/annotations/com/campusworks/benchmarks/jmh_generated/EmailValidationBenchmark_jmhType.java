@@ -0,0 +1,4 @@
+package com.campusworks.benchmarks.jmh_generated;
+public class EmailValidationBenchmark_jmhType extends EmailValidationBenchmark_jmhType_B3 {
+}
+
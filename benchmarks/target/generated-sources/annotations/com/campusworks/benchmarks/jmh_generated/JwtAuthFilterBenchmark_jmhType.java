@@ -0,0 +1,4 @@
+package com.campusworks.benchmarks.jmh_generated;
+public class JwtAuthFilterBenchmark_jmhType extends JwtAuthFilterBenchmark_jmhType_B3 {
+}
+
@@ -1,16 +1,20 @@
 package com.campusworks.bidding.client;
 
-import com.campusworks.bidding.dto.BiddingStatusResponse;
 import com.campusworks.bidding.dto.TaskResponse;
 import com.campusworks.bidding.dto.TaskUpdateResponse;
 import com.campusworks.bidding.dto.TaskAssignmentRequest;
-import com.campusworks.bidding.dto.TaskOwnershipResponse;
 import com.campusworks.bidding.config.FeignClientConfig;
+import com.campusworks.bidding.eventbus.TaskPayload;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Feign Client for Task Service
@@ -19,18 +23,6 @@ import org.springframework.web.bind.annotation.RequestBody;
 @FeignClient(name = "task-service", fallback = TaskServiceClientFallback.class, configuration = FeignClientConfig.class)
 public interface TaskServiceClient {
     
-    /**
-     * Check if task exists
-     */
-    @GetMapping("/tasks/{taskId}/exists")
-    boolean checkTaskExists(@PathVariable("taskId") Long taskId);
-    
-    /**
-     * Get task bidding status
-     */
-    @GetMapping("/tasks/{taskId}/bidding-status")
-    BiddingStatusResponse getTaskBiddingStatus(@PathVariable("taskId") Long taskId);
-    
     /**
      * Update task status
      */
@@ -43,12 +35,6 @@ public interface TaskServiceClient {
     @PutMapping("/tasks/{taskId}/assign")
     TaskUpdateResponse assignTask(@PathVariable("taskId") Long taskId, @RequestBody TaskAssignmentRequest request);
     
-    /**
-     * Check if a user is the owner of a specific task
-     */
-    @GetMapping("/tasks/{taskId}/owner/{userId}")
-    TaskOwnershipResponse isTaskOwner(@PathVariable("taskId") Long taskId, @PathVariable("userId") Long userId);
-    
     /**
      * Get task by ID
      */
@@ -66,4 +52,12 @@ public interface TaskServiceClient {
      */
     @PutMapping("/tasks/{taskId}/complete")
     TaskUpdateResponse completeTask(@PathVariable("taskId") Long taskId, @RequestBody TaskUpdateResponse request);
+    
+    /**
+     * Get tasks changed after a (updatedAt, id) position, for the task snapshot catch-up sync
+     */
+    @GetMapping("/tasks/changes")
+    List<TaskPayload> getTaskChanges(@RequestParam("since") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+                                     @RequestParam("afterId") Long afterId,
+                                     @RequestParam("limit") int limit);
 }
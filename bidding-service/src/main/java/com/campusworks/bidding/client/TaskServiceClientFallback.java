@@ -1,15 +1,14 @@
 package com.campusworks.bidding.client;
 
-import com.campusworks.bidding.dto.BiddingStatusResponse;
 import com.campusworks.bidding.dto.TaskResponse;
 import com.campusworks.bidding.dto.TaskUpdateResponse;
 import com.campusworks.bidding.dto.TaskAssignmentRequest;
-import com.campusworks.bidding.dto.TaskOwnershipResponse;
+import com.campusworks.bidding.eventbus.TaskPayload;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Fallback implementation for TaskServiceClient
@@ -19,30 +18,6 @@ import java.time.LocalDateTime;
 @Slf4j
 public class TaskServiceClientFallback implements TaskServiceClient {
     
-    @Override
-    public boolean checkTaskExists(Long taskId) {
-        log.warn("⚠️ Task Service unavailable - Fallback: Assuming task {} exists", taskId);
-        return true; // Assume task exists to avoid blocking bid placement
-    }
-    
-    @Override
-    public BiddingStatusResponse getTaskBiddingStatus(Long taskId) {
-        log.warn("⚠️ Task Service unavailable - Fallback: Returning default bidding status for task {}", taskId);
-        
-        // Return default response to allow bidding to continue
-        // Note: BiddingStatusResponse doesn't have a 'message' field
-        return BiddingStatusResponse.builder()
-                .taskId(taskId)
-                .isOpenForBidding(true)
-                .status("OPEN")
-                .biddingDeadline(LocalDateTime.now().plusHours(24)) // Default 24 hours
-                .totalBids(0)
-                .lowestBidAmount(BigDecimal.ZERO)
-                .highestBidAmount(BigDecimal.ZERO)
-                .lastBidTime(LocalDateTime.now())
-                .build();
-    }
-    
     @Override
     public TaskUpdateResponse updateTaskStatus(Long taskId, TaskUpdateResponse request) {
         log.warn("⚠️ Task Service unavailable - Fallback: Cannot update task {} status", taskId);
@@ -72,24 +47,6 @@ public class TaskServiceClientFallback implements TaskServiceClient {
                 .build();
     }
     
-    @Override
-    public TaskOwnershipResponse isTaskOwner(Long taskId, Long userId) {
-        log.error("❌ Task Service unavailable - Cannot verify task ownership for task {} and user {}", 
-                taskId, userId);
-        
-        // In fallback mode, BLOCK the request for safety
-        // We cannot verify ownership, so we must prevent potential owner bidding
-        log.error("❌ BLOCKING: Task Service unavailable - Cannot verify ownership. Request blocked for safety.");
-        
-        return TaskOwnershipResponse.builder()
-                .taskId(taskId)
-                .userId(userId)
-                .isOwner(true)  // Assume IS owner to BLOCK the request
-                .message("Task Service unavailable - Cannot verify ownership. Request blocked for safety.")
-                .success(false)
-                .build();
-    }
-    
     @Override
     public TaskResponse getTaskById(Long taskId) {
         log.warn("⚠️ Task Service unavailable - Fallback: Returning default task response for task {}", taskId);
@@ -132,4 +89,10 @@ public class TaskServiceClientFallback implements TaskServiceClient {
                 .success(false)
                 .build();
     }
+    
+    @Override
+    public List<TaskPayload> getTaskChanges(LocalDateTime since, Long afterId, int limit) {
+        log.warn("⚠️ Task Service unavailable - Fallback: No task changes since {}, snapshot sync will retry", since);
+        return List.of();
+    }
 }
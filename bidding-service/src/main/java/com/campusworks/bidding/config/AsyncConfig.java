@@ -0,0 +1,19 @@
+package com.campusworks.bidding.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+
+/**
+ * Async Configuration
+ * Boot applies this decorator to the application task executor, so @Async
+ * listeners keep the trace and MDC context of the thread that published the event.
+ */
+@Configuration
+public class AsyncConfig {
+
+    @Bean
+    public ContextPropagatingTaskDecorator contextPropagatingTaskDecorator() {
+        return new ContextPropagatingTaskDecorator();
+    }
+}
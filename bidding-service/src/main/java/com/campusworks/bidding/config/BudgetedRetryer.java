@@ -0,0 +1,98 @@
+package com.campusworks.bidding.config;
+
+import feign.Request;
+import feign.RetryableException;
+import feign.Retryer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Budgeted Retryer
+ * Retries only GET requests that failed at the connection level, and only while the
+ * target client still has retry budget left - so a failing dependency sees at most a
+ * small, bounded amount of extra traffic instead of a retry storm
+ */
+public class BudgetedRetryer implements Retryer {
+
+    private final int maxAttempts;
+    private final long backoffMs;
+    private final double budgetPerSecond;
+    private final Map<String, RetryBudget> budgets;
+    private int attempt = 1;
+
+    public BudgetedRetryer(int maxAttempts, long backoffMs, double budgetPerSecond) {
+        this(maxAttempts, backoffMs, budgetPerSecond, new ConcurrentHashMap<>());
+    }
+
+    private BudgetedRetryer(int maxAttempts, long backoffMs, double budgetPerSecond, Map<String, RetryBudget> budgets) {
+        this.maxAttempts = maxAttempts;
+        this.backoffMs = backoffMs;
+        this.budgetPerSecond = budgetPerSecond;
+        this.budgets = budgets;
+    }
+
+    @Override
+    public void continueOrPropagate(RetryableException e) {
+        if (attempt >= maxAttempts || e.method() != Request.HttpMethod.GET) {
+            throw e;
+        }
+        RetryBudget budget = budgets.computeIfAbsent(targetName(e), name -> new RetryBudget(budgetPerSecond));
+        if (!budget.tryAcquire()) {
+            throw e;
+        }
+
+        attempt++;
+        try {
+            long jitter = ThreadLocalRandom.current().nextLong(backoffMs + 1);
+            Thread.sleep(backoffMs * (attempt - 1) + jitter);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    @Override
+    public Retryer clone() {
+        // Attempts are per call, budgets are shared by every call to the same client
+        return new BudgetedRetryer(maxAttempts, backoffMs, budgetPerSecond, budgets);
+    }
+
+    private String targetName(RetryableException e) {
+        Request request = e.request();
+        if (request != null && request.requestTemplate() != null && request.requestTemplate().feignTarget() != null) {
+            return request.requestTemplate().feignTarget().name();
+        }
+        return "default";
+    }
+
+    /**
+     * Token bucket refilled at a fixed rate, capped at one second worth of tokens
+     */
+    static class RetryBudget {
+
+        private final double tokensPerNano;
+        private final double capacity;
+        private double tokens;
+        private long lastRefillNanos;
+
+        RetryBudget(double tokensPerSecond) {
+            this.tokensPerNano = tokensPerSecond / 1_000_000_000d;
+            this.capacity = Math.max(1, tokensPerSecond);
+            this.tokens = capacity;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        synchronized boolean tryAcquire() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+            lastRefillNanos = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -56,10 +56,10 @@ public class FeignClientConfig {
                             log.debug("🔐 Propagated X-User-Roles: {} to Feign Client request", userRoles);
                         }
                         
-                        log.info("🔐 Feign Client request headers propagated for user: {} ({})", userEmail, userId);
+                        log.debug("🔐 Feign Client request headers propagated for user: {} ({})", userEmail, userId);
                     } else {
                         // If no request context, try to get from MDC or use a different approach
-                        log.warn("⚠️ No request context available for Feign Client header propagation");
+                        log.debug("⚠️ No request context available for Feign Client header propagation");
                         
                         // Alternative: Use MDC context if available
                         // String userId = MDC.get("userId");
@@ -0,0 +1,69 @@
+package com.campusworks.bidding.config;
+
+import feign.Capability;
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.Response;
+import feign.Target;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.http.Outcome;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feign Metrics Capability
+ * Times every Feign call and counts failed ones, tagged by client, Java method, outcome and
+ * status. Spring Cloud OpenFeign applies Capability beans to all clients, so new clients are
+ * covered automatically. Meters: feign.client.requests (timer), feign.client.errors (counter).
+ */
+@Component
+@RequiredArgsConstructor
+public class FeignMetricsCapability implements Capability {
+    
+    private final MeterRegistry meterRegistry;
+    
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            long startTime = System.nanoTime();
+            String outcome = Outcome.UNKNOWN.name();
+            String status = "NONE";
+            String exception = "none";
+            try {
+                Response response = client.execute(request, options);
+                outcome = Outcome.forStatus(response.status()).name();
+                status = String.valueOf(response.status());
+                return response;
+            } catch (Exception e) {
+                exception = e.getClass().getSimpleName();
+                throw e;
+            } finally {
+                Tags tags = Tags.of(
+                        "client", clientName(request),
+                        "method", methodName(request),
+                        "outcome", outcome,
+                        "status", status,
+                        "exception", exception);
+                meterRegistry.timer("feign.client.requests", tags)
+                        .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                if (!Outcome.SUCCESS.name().equals(outcome)) {
+                    meterRegistry.counter("feign.client.errors", tags).increment();
+                }
+            }
+        };
+    }
+    
+    private static String clientName(Request request) {
+        Target<?> target = request.requestTemplate().feignTarget();
+        return target != null ? target.name() : "unknown";
+    }
+    
+    private static String methodName(Request request) {
+        MethodMetadata metadata = request.requestTemplate().methodMetadata();
+        return metadata != null ? metadata.method().getName() : "unknown";
+    }
+}
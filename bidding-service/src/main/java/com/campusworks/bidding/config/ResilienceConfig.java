@@ -0,0 +1,127 @@
+package com.campusworks.bidding.config;
+
+import feign.Retryer;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreakerFactory;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JConfigBuilder;
+import org.springframework.cloud.client.circuitbreaker.Customizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resilience Configuration
+ * Circuit breakers and time limiters for Feign clients, configured per client and per method
+ * through resilience4j.* properties. Breaker ids look like TaskServiceClientgetTaskByIdLong.
+ */
+@Configuration
+public class ResilienceConfig {
+
+    private final ExecutorService circuitBreakerExecutor = new RequestContextExecutorService(
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("circuit-breaker-", 0).factory()));
+
+    /**
+     * Use the property-driven resilience4j defaults for every breaker and run guarded calls
+     * on virtual threads that carry the caller's request context, so the Feign header
+     * interceptor still sees X-User-* headers when the time limiter moves the call off-thread
+     */
+    @Bean
+    public Customizer<Resilience4JCircuitBreakerFactory> circuitBreakerDefaults(CircuitBreakerRegistry circuitBreakerRegistry,
+                                                                               TimeLimiterRegistry timeLimiterRegistry) {
+        return factory -> {
+            factory.configureDefault(id -> new Resilience4JConfigBuilder(id)
+                    .circuitBreakerConfig(circuitBreakerRegistry.getDefaultConfig())
+                    .timeLimiterConfig(timeLimiterRegistry.getDefaultConfig())
+                    .build());
+            factory.configureExecutorService(circuitBreakerExecutor);
+        };
+    }
+
+    /**
+     * Retry idempotent calls on connection failures, within a per-client retry budget
+     */
+    @Bean
+    public Retryer feignRetryer(@Value("${resilience.retry.max-attempts:2}") int maxAttempts,
+                                @Value("${resilience.retry.backoff-ms:100}") long backoffMs,
+                                @Value("${resilience.retry.budget-per-second:5}") double budgetPerSecond) {
+        return new BudgetedRetryer(maxAttempts, backoffMs, budgetPerSecond);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        circuitBreakerExecutor.shutdown();
+    }
+
+    /**
+     * Executor that hands the submitting thread's request attributes, MDC and current
+     * observation (trace context) to the worker
+     */
+    static class RequestContextExecutorService extends AbstractExecutorService {
+
+        private static final ContextSnapshotFactory CONTEXT_SNAPSHOTS = ContextSnapshotFactory.builder().build();
+
+        private final ExecutorService delegate;
+
+        RequestContextExecutorService(ExecutorService delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+            Map<String, String> mdc = MDC.getCopyOfContextMap();
+            ContextSnapshot snapshot = CONTEXT_SNAPSHOTS.captureAll();
+            delegate.execute(snapshot.wrap(() -> {
+                try {
+                    RequestContextHolder.setRequestAttributes(attributes);
+                    if (mdc != null) {
+                        MDC.setContextMap(mdc);
+                    }
+                    command.run();
+                } finally {
+                    RequestContextHolder.resetRequestAttributes();
+                    MDC.clear();
+                }
+            }));
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.campusworks.bidding.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Scheduler Metrics
+ * Records how long each scheduled job run took: a timer for the distribution
+ * (bidding.scheduler.job.duration) and a gauge with the most recent run
+ * (bidding.scheduler.job.last.duration), both tagged by job name.
+ */
+@Component
+@RequiredArgsConstructor
+public class SchedulerMetrics {
+    
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicLong> lastDurations = new ConcurrentHashMap<>();
+    
+    /**
+     * Record one run of a scheduled job
+     * @param job job name used as the "job" tag
+     * @param durationNanos how long the run took
+     */
+    public void record(String job, long durationNanos) {
+        Timer.builder("bidding.scheduler.job.duration")
+                .description("Duration of scheduled job runs")
+                .tag("job", job)
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        
+        lastDurations.computeIfAbsent(job, this::registerLastDurationGauge).set(durationNanos);
+    }
+    
+    private AtomicLong registerLastDurationGauge(String job) {
+        AtomicLong lastDuration = new AtomicLong();
+        Gauge.builder("bidding.scheduler.job.last.duration", lastDuration, value -> value.get() / 1e9)
+                .description("Duration of the most recent run of a scheduled job")
+                .tag("job", job)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        return lastDuration;
+    }
+}
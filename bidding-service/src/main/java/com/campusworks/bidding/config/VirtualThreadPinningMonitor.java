@@ -0,0 +1,78 @@
+package com.campusworks.bidding.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+/**
+ * Virtual Thread Pinning Monitor
+ * Streams JFR jdk.VirtualThreadPinned events and logs where a virtual thread blocked while
+ * pinned to its carrier (synchronized blocks in JDBC drivers, pools, mail transports).
+ * Enable with diagnostics.virtual-thread-pinning.enabled=true while load testing.
+ */
+@Component
+@ConditionalOnProperty(name = "diagnostics.virtual-thread-pinning.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    private static final int MAX_FRAMES = 12;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${diagnostics.virtual-thread-pinning.threshold-ms:20}")
+    private long thresholdMs;
+
+    private RecordingStream recordingStream;
+    private Counter pinnedCounter;
+
+    @PostConstruct
+    public void start() {
+        pinnedCounter = Counter.builder("jvm.threads.virtual.pinned")
+                .description("Virtual threads that blocked while pinned to a carrier thread")
+                .register(meterRegistry);
+
+        recordingStream = new RecordingStream();
+        recordingStream.enable("jdk.VirtualThreadPinned")
+                .withThreshold(Duration.ofMillis(thresholdMs))
+                .withStackTrace();
+        recordingStream.onEvent("jdk.VirtualThreadPinned", this::onPinned);
+        recordingStream.startAsync();
+
+        log.info("📌 Virtual thread pinning monitor started (threshold {} ms)", thresholdMs);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCounter.increment();
+        String frames = event.getStackTrace() == null ? "<no stack trace>"
+                : event.getStackTrace().getFrames().stream()
+                        .limit(MAX_FRAMES)
+                        .map(this::describe)
+                        .collect(Collectors.joining("\n    at "));
+        log.warn("📌 Virtual thread pinned for {} ms:\n    at {}", event.getDuration().toMillis(), frames);
+    }
+
+    private String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
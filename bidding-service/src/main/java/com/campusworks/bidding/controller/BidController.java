@@ -1,12 +1,16 @@
 package com.campusworks.bidding.controller;
 
 import com.campusworks.bidding.model.Bid;
+import com.campusworks.bidding.repo.BidListVersion;
+import com.campusworks.bidding.repo.BidSummary;
 import com.campusworks.bidding.service.BiddingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
@@ -76,15 +80,24 @@ public class BidController {
      * Get all bids for a task
      */
     @GetMapping("/task/{taskId}")
-    public ResponseEntity<?> getBidsByTaskId(@PathVariable Long taskId) {
+    public ResponseEntity<?> getBidsByTaskId(@PathVariable Long taskId, WebRequest webRequest) {
         log.info("📋 Retrieving all bids for task ID: {}", taskId);
         
         try {
+            // Answer conditional GETs from the count/last-update projection without loading the bids
+            BidListVersion version = biddingService.getBidListVersion(taskId);
+            if (webRequest.checkNotModified(version.eTag(taskId), version.lastModified())) {
+                log.debug("✅ Bids for task ID: {} not modified", taskId);
+                return null;
+            }
+            
             List<Bid> bids = biddingService.getBidsByTaskId(taskId);
             
             log.info("✅ Retrieved {} bids for task ID: {}", bids.size(), taskId);
             
-            return ResponseEntity.ok(bids);
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(bids);
             
         } catch (Exception e) {
             log.error("❌ Failed to retrieve bids for task ID: {} - Error: {}", taskId, e.getMessage(), e);
@@ -224,9 +237,9 @@ public class BidController {
             var lowestBidOpt = biddingService.getLowestBidForTask(taskId);
             
             if (lowestBidOpt.isPresent()) {
-                Bid lowestBid = lowestBidOpt.get();
+                BidSummary lowestBid = lowestBidOpt.get();
                 log.info("✅ Lowest bid found: ID: {}, Amount: ${}, Bidder: {}", 
-                        lowestBid.getId(), lowestBid.getAmount(), lowestBid.getBidderEmail());
+                        lowestBid.id(), lowestBid.amount(), lowestBid.bidderEmail());
                 return ResponseEntity.ok(lowestBid);
             } else {
                 log.info("ℹ️ No bids found for task ID: {}", taskId);
@@ -255,9 +268,9 @@ public class BidController {
             var highestBidOpt = biddingService.getHighestBidForTask(taskId);
             
             if (highestBidOpt.isPresent()) {
-                Bid highestBid = highestBidOpt.get();
+                BidSummary highestBid = highestBidOpt.get();
                 log.info("✅ Highest bid found: ID: {}, Amount: ${}, Bidder: {}", 
-                        highestBid.getId(), highestBid.getAmount(), highestBid.getBidderEmail());
+                        highestBid.id(), highestBid.amount(), highestBid.bidderEmail());
                 return ResponseEntity.ok(highestBid);
             } else {
                 log.info("ℹ️ No bids found for task ID: {}", taskId);
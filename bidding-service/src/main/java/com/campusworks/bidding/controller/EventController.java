@@ -0,0 +1,71 @@
+package com.campusworks.bidding.controller;
+
+import com.campusworks.bidding.eventbus.DomainEvent;
+import com.campusworks.bidding.eventbus.EventInbox;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Event Controller
+ * Receives domain events pushed by other services' outbox relays (not routed by the gateway)
+ */
+@RestController
+@RequestMapping("/events")
+@RequiredArgsConstructor
+@Slf4j
+public class EventController {
+    
+    private final EventInbox eventInbox;
+    
+    /**
+     * Receive a domain event; any 2xx answer tells the producer to stop retrying
+     */
+    @PostMapping
+    public ResponseEntity<?> receiveEvent(@RequestBody DomainEvent event) {
+        if (event.eventId() == null || event.type() == null) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Invalid event");
+            errorResponse.put("message", "eventId and type are required");
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+        
+        log.info("📥 Received {} event {} from {} for aggregate {}", 
+                event.type(), event.eventId(), event.source(), event.aggregateId());
+        
+        try {
+            EventInbox.Result result = eventInbox.receive(event);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("eventId", event.eventId());
+            response.put("result", result);
+            
+            return ResponseEntity.ok(response);
+            
+        } catch (DataAccessException e) {
+            log.error("❌ Failed to process {} event {} - Error: {}", event.type(), event.eventId(), e.getMessage());
+            
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Event could not be processed");
+            errorResponse.put("message", e.getMessage());
+            
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+            
+        } catch (RuntimeException e) {
+            // Not a rejection, so the producer keeps the event and retries it
+            log.error("❌ Failed to apply {} event {} - Error: {}", event.type(), event.eventId(), e.getMessage(), e);
+            
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Event could not be applied");
+            errorResponse.put("message", e.getMessage());
+            
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+}
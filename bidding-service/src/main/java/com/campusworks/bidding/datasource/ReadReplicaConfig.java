@@ -0,0 +1,77 @@
+package com.campusworks.bidding.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Read Replica Configuration
+ * Replaces the auto-configured datasource with a primary pool, a replica pool
+ * and a routing datasource that sends read-only transactions to the replica.
+ * Enabled with datasource.replica.enabled=true; without it the service uses the
+ * single auto-configured pool as before.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+@EnableScheduling
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${datasource.replica.url}") String url,
+                                              @Value("${datasource.replica.username:${spring.datasource.username}}") String username,
+                                              @Value("${datasource.replica.password:${spring.datasource.password}}") String password) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               @Value("${datasource.replica.max-lag-seconds:5}") long maxLagSeconds,
+                                               @Value("${datasource.replica.require-replication:true}") boolean requireReplication,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaDataSource, maxLagSeconds, requireReplication, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 MeterRegistry meterRegistry) {
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(replicaLagMonitor, meterRegistry);
+        routingDataSource.setTargetDataSources(Map.of(
+                ReplicaRoutingDataSource.Target.PRIMARY, primaryDataSource,
+                ReplicaRoutingDataSource.Target.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        // Defer the physical connection until the first statement, when the read-only flag is known
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,121 @@
+package com.campusworks.bidding.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Replica Lag Monitor
+ * Polls the replica's replication status and marks it unavailable when it
+ * falls too far behind, stops replicating or cannot be reached.
+ * Reads fall back to the primary until the replica catches up again.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    /** Replica answered but has no replication source configured */
+    private static final long NOT_REPLICATING = -1;
+
+    /** Replication is configured but the SQL thread is stopped */
+    private static final long REPLICATION_STOPPED = -2;
+
+    private final JdbcTemplate replica;
+    private final long maxLagSeconds;
+    private final boolean requireReplication;
+
+    private volatile boolean available = false;
+    private volatile long lagSeconds = -1;
+    private volatile String statusQuery = "SHOW REPLICA STATUS";
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagSeconds, boolean requireReplication,
+                             MeterRegistry meterRegistry) {
+        this.replica = new JdbcTemplate(replicaDataSource);
+        this.maxLagSeconds = maxLagSeconds;
+        this.requireReplication = requireReplication;
+
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("Seconds the read replica is behind the primary (-1 when unknown)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.available", this, monitor -> monitor.available ? 1 : 0)
+                .description("Whether read-only transactions are currently routed to the replica")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether read-only work may go to the replica right now
+     */
+    public boolean isReplicaAvailable() {
+        return available;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:5000}")
+    public void checkLag() {
+        long lag;
+        try {
+            lag = readLag();
+        } catch (DataAccessException e) {
+            updateAvailability(false, -1, "replica unreachable: " + e.getMessage());
+            return;
+        }
+
+        if (lag == NOT_REPLICATING) {
+            updateAvailability(!requireReplication, 0, "replica has no replication source configured");
+        } else if (lag == REPLICATION_STOPPED) {
+            updateAvailability(false, -1, "replication is stopped");
+        } else if (lag > maxLagSeconds) {
+            updateAvailability(false, lag, "replica is " + lag + "s behind (max " + maxLagSeconds + "s)");
+        } else {
+            updateAvailability(true, lag, "replica is " + lag + "s behind");
+        }
+    }
+
+    private long readLag() {
+        try {
+            return replica.query(statusQuery, this::extractLag);
+        } catch (BadSqlGrammarException e) {
+            // MySQL before 8.0.22 only understands the old syntax
+            statusQuery = "SHOW SLAVE STATUS";
+            return replica.query(statusQuery, this::extractLag);
+        }
+    }
+
+    private long extractLag(ResultSet rs) throws SQLException {
+        if (!rs.next()) {
+            return NOT_REPLICATING;
+        }
+        String column = hasColumn(rs, "Seconds_Behind_Source") ? "Seconds_Behind_Source" : "Seconds_Behind_Master";
+        long lag = rs.getLong(column);
+        return rs.wasNull() ? REPLICATION_STOPPED : lag;
+    }
+
+    private static boolean hasColumn(ResultSet rs, String column) throws SQLException {
+        var metaData = rs.getMetaData();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if (column.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void updateAvailability(boolean nowAvailable, long lag, String reason) {
+        lagSeconds = lag;
+        if (available != nowAvailable) {
+            if (nowAvailable) {
+                log.info("✅ Read replica available, routing read-only transactions to it ({})", reason);
+            } else {
+                log.warn("⚠️ Read replica unavailable, routing reads to the primary ({})", reason);
+            }
+        }
+        available = nowAvailable;
+    }
+}
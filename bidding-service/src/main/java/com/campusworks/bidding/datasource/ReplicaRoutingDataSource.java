@@ -0,0 +1,69 @@
+package com.campusworks.bidding.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Replica Routing DataSource
+ * Sends connections for read-only service transactions to the replica while
+ * it is within the allowed lag, and everything else to the primary.
+ *
+ * Spring Data repositories open their own read-only transaction when called
+ * outside a service transaction. Those calls are usually the read half of a
+ * read-then-write flow, so they stay on the primary to avoid acting on stale rows.
+ *
+ * Must sit behind a LazyConnectionDataSourceProxy so the lookup happens after
+ * the transaction's read-only flag has been set.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String REPOSITORY_TRANSACTION_PREFIX = "org.springframework.data.";
+
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+    private final Counter fallbackRoutes;
+
+    public ReplicaRoutingDataSource(ReplicaLagMonitor lagMonitor, MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.primaryRoutes = routeCounter(meterRegistry, "primary", "write");
+        this.replicaRoutes = routeCounter(meterRegistry, "replica", "read-only");
+        this.fallbackRoutes = routeCounter(meterRegistry, "primary", "replica-unavailable");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!isReadOnlyServiceTransaction()) {
+            primaryRoutes.increment();
+            return Target.PRIMARY;
+        }
+        if (!lagMonitor.isReplicaAvailable()) {
+            fallbackRoutes.increment();
+            return Target.PRIMARY;
+        }
+        replicaRoutes.increment();
+        return Target.REPLICA;
+    }
+
+    private boolean isReadOnlyServiceTransaction() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return false;
+        }
+        String name = TransactionSynchronizationManager.getCurrentTransactionName();
+        return name == null || !name.startsWith(REPOSITORY_TRANSACTION_PREFIX);
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("datasource.routing")
+                .description("Connections handed out by the read/write routing datasource")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,25 @@
+package com.campusworks.bidding.event;
+
+import com.campusworks.bidding.model.Bid;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Bid Accepted Event
+ * Published when a bid is accepted, either by the task owner or by automatic selection
+ */
+public record BidAcceptedEvent(Long bidId,
+                               Long taskId,
+                               Long bidderId,
+                               String bidderEmail,
+                               BigDecimal amount,
+                               String proposal,
+                               LocalDateTime acceptedAt,
+                               boolean automatic) {
+
+    public static BidAcceptedEvent of(Bid bid, boolean automatic) {
+        return new BidAcceptedEvent(bid.getId(), bid.getTaskId(), bid.getBidderId(), bid.getBidderEmail(),
+                bid.getAmount(), bid.getProposal(), bid.getAcceptedAt(), automatic);
+    }
+}
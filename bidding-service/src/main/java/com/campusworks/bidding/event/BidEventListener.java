@@ -0,0 +1,105 @@
+package com.campusworks.bidding.event;
+
+import com.campusworks.bidding.service.MailService;
+import com.campusworks.bidding.service.TaskSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Bid Event Listener
+ * Sends the emails for bid state changes after the local transaction has committed,
+ * on the async executor, so no database connection is held while waiting on SMTP.
+ * Task state changes travel to Task Service through the domain event bus instead.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BidEventListener {
+
+    private final TaskSnapshotService taskSnapshotService;
+    private final MailService mailService;
+
+    /**
+     * Notify both parties of the accepted bid
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBidAccepted(BidAcceptedEvent event) {
+        try {
+            var taskSnapshot = taskSnapshotService.getTask(event.taskId());
+            if (taskSnapshot.isPresent()) {
+                var task = taskSnapshot.get();
+                mailService.sendTaskAssignmentEmailToBidder(
+                    event.bidderEmail(),
+                    task.getOwnerEmail(),
+                    task.getTitle(),
+                    task.getCompletionDeadline(),
+                    event.amount()
+                );
+
+                mailService.sendTaskAssignmentEmailToOwner(
+                    task.getOwnerEmail(),
+                    task.getTitle(),
+                    event.bidderEmail(),
+                    event.amount(),
+                    event.proposal()
+                );
+
+                log.info("📧 Email notifications sent for {} bid acceptance: {}",
+                        event.automatic() ? "automatic" : "manual", event.bidId());
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ Failed to send email notifications for bid acceptance: {}. Error: {}",
+                    event.bidId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Notify the task owner that the bidder submitted their UPI ID
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUpiIdSubmitted(UpiIdSubmittedEvent event) {
+        try {
+            var taskSnapshot = taskSnapshotService.getTask(event.taskId());
+            if (taskSnapshot.isPresent()) {
+                var task = taskSnapshot.get();
+                mailService.sendUpiSubmissionEmailToOwner(
+                    task.getOwnerEmail(),
+                    task.getTitle(),
+                    event.bidderEmail(),
+                    event.upiId()
+                );
+                log.info("📧 UPI submission email sent to task owner: {}", task.getOwnerEmail());
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ Failed to send UPI submission email: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Notify the bidder that their work was accepted
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onWorkAccepted(WorkAcceptedEvent event) {
+        try {
+            var taskSnapshot = taskSnapshotService.getTask(event.taskId());
+            if (taskSnapshot.isPresent()) {
+                var task = taskSnapshot.get();
+                mailService.sendWorkAcceptanceEmailToBidder(
+                    event.bidderEmail(),
+                    task.getTitle(),
+                    task.getOwnerEmail()
+                );
+                log.info("📧 Work acceptance email sent to bidder: {}", event.bidderEmail());
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ Failed to send work acceptance email: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.campusworks.bidding.event;
+
+/**
+ * UPI ID Submitted Event
+ * Published when a bidder submits their UPI ID for an accepted bid
+ */
+public record UpiIdSubmittedEvent(Long bidId, Long taskId, String bidderEmail, String upiId) {
+}
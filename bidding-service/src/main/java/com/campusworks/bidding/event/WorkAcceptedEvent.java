@@ -0,0 +1,10 @@
+package com.campusworks.bidding.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Work Accepted Event
+ * Published when the task owner accepts the completed work for a bid
+ */
+public record WorkAcceptedEvent(Long bidId, Long taskId, String bidderEmail, LocalDateTime completedAt) {
+}
@@ -0,0 +1,27 @@
+package com.campusworks.bidding.eventbus;
+
+import com.campusworks.bidding.model.Bid;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Bid Payload
+ * Body of the bid events this service publishes; timestamp is when the
+ * bid was placed, accepted, assigned or completed, depending on the event type.
+ * category is the task's category from the task snapshot, null if it is not known yet
+ */
+public record BidPayload(Long bidId,
+                         Long taskId,
+                         Long bidderId,
+                         String bidderEmail,
+                         BigDecimal amount,
+                         String proposal,
+                         LocalDateTime timestamp,
+                         String category) {
+
+    public static BidPayload of(Bid bid, String category, LocalDateTime timestamp) {
+        return new BidPayload(bid.getId(), bid.getTaskId(), bid.getBidderId(), bid.getBidderEmail(),
+                bid.getAmount(), bid.getProposal(), timestamp, category);
+    }
+}
@@ -0,0 +1,18 @@
+package com.campusworks.bidding.eventbus;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain Event
+ * Envelope pushed to subscribers. The type is kept as a string so a consumer can
+ * acknowledge event types it does not know yet instead of failing to parse them.
+ */
+public record DomainEvent(String eventId,
+                          String type,
+                          String source,
+                          Long aggregateId,
+                          LocalDateTime occurredAt,
+                          JsonNode payload) {
+}
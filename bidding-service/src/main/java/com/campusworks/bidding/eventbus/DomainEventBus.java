@@ -0,0 +1,14 @@
+package com.campusworks.bidding.eventbus;
+
+/**
+ * Domain Event Bus
+ * Publishes events to other services. Events are recorded in the caller's transaction
+ * and only leave the service after it commits, so a rolled-back change never goes out.
+ */
+public interface DomainEventBus {
+
+    /**
+     * Record an event for every subscriber of its type; must be called inside a transaction
+     */
+    void publish(DomainEventType type, Long aggregateId, Object payload);
+}
@@ -0,0 +1,13 @@
+package com.campusworks.bidding.eventbus;
+
+/**
+ * Domain Event Handler
+ * Applies events received from other services. Handlers run at most once per event id;
+ * an EventRejectedException marks the event as rejected, any other exception asks the producer to retry.
+ */
+public interface DomainEventHandler {
+
+    boolean supports(String type);
+
+    void handle(DomainEvent event);
+}
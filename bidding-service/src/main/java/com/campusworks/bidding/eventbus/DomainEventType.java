@@ -0,0 +1,16 @@
+package com.campusworks.bidding.eventbus;
+
+/**
+ * Domain Event Type
+ * Cross-service events carried by the event bus; the same names are used by every service
+ */
+public enum DomainEventType {
+    TASK_CREATED,
+    TASK_UPDATED,
+    TASK_DELETED,
+    BID_PLACED,
+    BID_ACCEPTED,
+    TASK_ASSIGNED,
+    TASK_COMPLETED,
+    TASK_CANCELLED
+}
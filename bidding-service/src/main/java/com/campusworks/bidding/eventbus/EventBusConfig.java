@@ -0,0 +1,29 @@
+package com.campusworks.bidding.eventbus;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.web.client.RestClientBuilderConfigurer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Event Bus Configuration
+ * Load-balanced HTTP client for pushing events to subscribers
+ */
+@Configuration
+@EnableConfigurationProperties(EventBusProperties.class)
+public class EventBusConfig {
+
+    @Bean
+    @LoadBalanced
+    public RestClient.Builder eventBusRestClientBuilder(RestClientBuilderConfigurer configurer,
+                                                        @Value("${events.outbox.push-timeout-ms:3000}") int timeoutMs) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeoutMs);
+        requestFactory.setReadTimeout(timeoutMs);
+        return configurer.configure(RestClient.builder()).requestFactory(requestFactory);
+    }
+}
@@ -0,0 +1,19 @@
+package com.campusworks.bidding.eventbus;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Event Bus Properties
+ * Subscribers per event type, by service name (events.subscribers.TASK_ASSIGNED=task-service)
+ */
+@Data
+@ConfigurationProperties(prefix = "events")
+public class EventBusProperties {
+
+    private Map<DomainEventType, List<String>> subscribers = new EnumMap<>(DomainEventType.class);
+}
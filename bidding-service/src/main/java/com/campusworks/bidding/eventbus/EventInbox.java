@@ -0,0 +1,92 @@
+package com.campusworks.bidding.eventbus;
+
+import com.campusworks.bidding.model.ProcessedEvent;
+import com.campusworks.bidding.repo.ProcessedEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Event Inbox
+ * Idempotent entry point for events pushed by other services. The handler and the
+ * processed-event record commit together, so a redelivered event is acknowledged
+ * without being applied twice.
+ */
+@Component
+@Slf4j
+public class EventInbox {
+
+    /**
+     * What happened to a received event
+     */
+    public enum Result {
+        HANDLED,
+        REJECTED,
+        IGNORED,
+        DUPLICATE
+    }
+
+    private final ProcessedEventRepository processedEventRepository;
+    private final List<DomainEventHandler> handlers;
+    private final TransactionTemplate transactionTemplate;
+
+    public EventInbox(ProcessedEventRepository processedEventRepository,
+                      ObjectProvider<DomainEventHandler> handlers,
+                      TransactionTemplate transactionTemplate) {
+        this.processedEventRepository = processedEventRepository;
+        this.handlers = handlers.orderedStream().toList();
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Apply the event once. Only an EventRejectedException from the handler is recorded as
+     * rejected; any other exception is rethrown so the producer retries later.
+     */
+    public Result receive(DomainEvent event) {
+        if (processedEventRepository.existsById(event.eventId())) {
+            log.info("🔁 Skipping duplicate {} event {} from {}", event.type(), event.eventId(), event.source());
+            return Result.DUPLICATE;
+        }
+
+        DomainEventHandler handler = handlers.stream()
+                .filter(candidate -> candidate.supports(event.type()))
+                .findFirst()
+                .orElse(null);
+
+        try {
+            return transactionTemplate.execute(status -> {
+                ProcessedEvent.Outcome outcome = ProcessedEvent.Outcome.IGNORED;
+                if (handler != null) {
+                    handler.handle(event);
+                    outcome = ProcessedEvent.Outcome.HANDLED;
+                }
+                record(event, outcome);
+                return Result.valueOf(outcome.name());
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (processedEventRepository.existsById(event.eventId())) {
+                return Result.DUPLICATE;
+            }
+            throw e;
+        } catch (EventRejectedException e) {
+            // The change was refused on business grounds; retrying would not help
+            log.warn("⚠️ Rejected {} event {} from {} for aggregate {}: {}",
+                    event.type(), event.eventId(), event.source(), event.aggregateId(), e.getMessage());
+            try {
+                transactionTemplate.executeWithoutResult(status -> record(event, ProcessedEvent.Outcome.REJECTED));
+            } catch (DataIntegrityViolationException duplicate) {
+                return Result.DUPLICATE;
+            }
+            return Result.REJECTED;
+        }
+    }
+
+    private void record(DomainEvent event, ProcessedEvent.Outcome outcome) {
+        processedEventRepository.insert(event.eventId(), event.type(), event.source(), outcome.name(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,17 @@
+package com.campusworks.bidding.eventbus;
+
+/**
+ * Event Rejected Exception
+ * Thrown by a handler when it refuses an event for good, such as a malformed payload or a
+ * change the current state does not allow. The inbox records it as rejected instead of retrying.
+ */
+public class EventRejectedException extends RuntimeException {
+
+    public EventRejectedException(String message) {
+        super(message);
+    }
+
+    public EventRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,88 @@
+package com.campusworks.bidding.eventbus;
+
+import com.campusworks.bidding.repo.OutboxEventRepository;
+import com.campusworks.bidding.repo.ProcessedEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Event Retention
+ * Prunes delivered outbox rows and old processed-event ids in batches of batch-size rows,
+ * each batch in its own short transaction. FAILED outbox rows are kept for inspection.
+ * Processed ids must outlive the longest redelivery window of any producer, or a late
+ * redelivery would be applied twice.
+ */
+@Component
+@Slf4j
+public class EventRetention {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ProcessedEventRepository processedEventRepository;
+    private final MeterRegistry meterRegistry;
+    private final Duration publishedRetention;
+    private final Duration processedRetention;
+    private final int batchSize;
+
+    public EventRetention(OutboxEventRepository outboxEventRepository,
+                          ProcessedEventRepository processedEventRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${events.retention.published-days:7}") long publishedDays,
+                          @Value("${events.retention.processed-days:7}") long processedDays,
+                          @Value("${events.retention.batch-size:500}") int batchSize) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.processedEventRepository = processedEventRepository;
+        this.meterRegistry = meterRegistry;
+        this.publishedRetention = Duration.ofDays(publishedDays);
+        this.processedRetention = Duration.ofDays(processedDays);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${events.retention.interval-ms:3600000}",
+               initialDelayString = "${events.retention.initial-delay-ms:60000}")
+    public void prune() {
+        LocalDateTime now = LocalDateTime.now();
+        long published = purge("outbox_events",
+                limit -> outboxEventRepository.findPublishedIdsBefore(now.minus(publishedRetention), limit),
+                outboxEventRepository::deleteByIds);
+        long processed = purge("processed_events",
+                limit -> processedEventRepository.findIdsProcessedBefore(now.minus(processedRetention), limit),
+                processedEventRepository::deleteByIds);
+        if (published > 0 || processed > 0) {
+            log.info("🧹 Pruned {} published outbox events and {} processed event ids", published, processed);
+        }
+    }
+
+    /**
+     * Delete matching rows batch by batch until a short batch shows nothing is left
+     */
+    private <I> long purge(String table, Function<PageRequest, List<I>> findIds, ToIntFunction<List<I>> deleteIds) {
+        Counter deletedCounter = Counter.builder("events.retention.deleted")
+                .description("Rows removed by the event retention job")
+                .tag("table", table)
+                .register(meterRegistry);
+
+        long deleted = 0;
+        List<I> ids;
+        do {
+            ids = findIds.apply(PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            int removed = deleteIds.applyAsInt(ids);
+            deletedCounter.increment(removed);
+            deleted += removed;
+        } while (ids.size() == batchSize);
+        return deleted;
+    }
+}
@@ -0,0 +1,11 @@
+package com.campusworks.bidding.eventbus;
+
+/**
+ * Event Transport
+ * Moves one event to one subscriber. Throws when the subscriber did not accept it,
+ * in which case the outbox relay retries later.
+ */
+public interface EventTransport {
+
+    void deliver(String destination, DomainEvent event);
+}
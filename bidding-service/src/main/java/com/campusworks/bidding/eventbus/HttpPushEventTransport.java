@@ -0,0 +1,30 @@
+package com.campusworks.bidding.eventbus;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+/**
+ * HTTP Push Event Transport
+ * POSTs the event to the subscriber's /events endpoint through the load balancer
+ */
+@Component
+public class HttpPushEventTransport implements EventTransport {
+
+    private final RestClient restClient;
+
+    public HttpPushEventTransport(@Qualifier("eventBusRestClientBuilder") RestClient.Builder restClientBuilder) {
+        this.restClient = restClientBuilder.build();
+    }
+
+    @Override
+    public void deliver(String destination, DomainEvent event) {
+        restClient.post()
+                .uri("http://{service}/events", destination)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(event)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
@@ -0,0 +1,65 @@
+package com.campusworks.bidding.eventbus;
+
+import com.campusworks.bidding.model.OutboxEvent;
+import com.campusworks.bidding.repo.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outbox Domain Event Bus
+ * Writes one outbox row per subscriber in the publishing transaction; the
+ * OutboxRelay delivers them after commit. Swapping in a broker means replacing
+ * the EventTransport, not the publishers.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxDomainEventBus implements DomainEventBus {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final EventBusProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DomainEventType type, Long aggregateId, Object payload) {
+        List<String> destinations = properties.getSubscribers().getOrDefault(type, List.of());
+        if (destinations.isEmpty()) {
+            log.debug("No subscribers for {} event on aggregate {}", type, aggregateId);
+            return;
+        }
+
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize " + type + " event: " + e.getMessage(), e);
+        }
+
+        String eventId = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> rows = destinations.stream()
+                .map(destination -> OutboxEvent.builder()
+                        .eventId(eventId)
+                        .eventType(type.name())
+                        .aggregateId(aggregateId)
+                        .destination(destination)
+                        .payload(json)
+                        .occurredAt(now)
+                        .nextAttemptAt(now)
+                        .build())
+                .toList();
+        outboxEventRepository.saveAll(rows);
+
+        log.info("📤 Queued {} event {} for aggregate {} to {}", type, eventId, aggregateId, destinations);
+    }
+}
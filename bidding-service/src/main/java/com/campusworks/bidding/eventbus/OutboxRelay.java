@@ -0,0 +1,153 @@
+package com.campusworks.bidding.eventbus;
+
+import com.campusworks.bidding.model.OutboxEvent;
+import com.campusworks.bidding.repo.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Outbox Relay
+ * Delivers committed outbox rows to their subscribers. Rows are claimed in a short
+ * transaction and pushed outside it, so no connection is held during the HTTP call.
+ * Failed pushes are retried with exponential backoff until max-attempts, then left
+ * as FAILED for inspection. Events for one aggregate reach each destination in order:
+ * a later event waits while an earlier one is still PENDING. Delivery is at-least-once;
+ * consumers dedupe by event id.
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final EventTransport transport;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final String source;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Counter delivered;
+    private final Counter retried;
+    private final Counter failed;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       EventTransport transport,
+                       TransactionTemplate transactionTemplate,
+                       ObjectMapper objectMapper,
+                       MeterRegistry meterRegistry,
+                       @Value("${spring.application.name}") String source,
+                       @Value("${events.outbox.batch-size:50}") int batchSize,
+                       @Value("${events.outbox.max-attempts:20}") int maxAttempts,
+                       @Value("${events.outbox.lease-seconds:30}") long leaseSeconds,
+                       @Value("${events.outbox.initial-backoff-ms:1000}") long initialBackoffMs,
+                       @Value("${events.outbox.max-backoff-ms:300000}") long maxBackoffMs) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.transport = transport;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.source = source;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.initialBackoff = Duration.ofMillis(initialBackoffMs);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMs);
+        this.delivered = deliveryCounter(meterRegistry, "delivered");
+        this.retried = deliveryCounter(meterRegistry, "retried");
+        this.failed = deliveryCounter(meterRegistry, "failed");
+
+        Gauge.builder("events.outbox.pending", outboxEventRepository,
+                        repository -> repository.countByStatus(OutboxEvent.Status.PENDING))
+                .description("Outbox events waiting for delivery")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${events.outbox.poll-interval:500}")
+    public void relay() {
+        List<OutboxEvent> batch;
+        do {
+            batch = claimBatch();
+            batch.forEach(this::deliver);
+        } while (batch.size() == batchSize);
+    }
+
+    private List<OutboxEvent> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> events = outboxEventRepository.findDeliverable(now, PageRequest.of(0, batchSize));
+            // Flushed on commit; the claim keeps other instances off these rows while we push
+            events.forEach(event -> event.setClaimedUntil(now.plus(lease)));
+            return events;
+        });
+    }
+
+    private void deliver(OutboxEvent event) {
+        try {
+            transport.deliver(event.getDestination(), toDomainEvent(event));
+            outboxEventRepository.markPublished(event.getId(), LocalDateTime.now());
+            delivered.increment();
+            log.debug("📨 Delivered {} event {} to {}", event.getEventType(), event.getEventId(), event.getDestination());
+        } catch (RuntimeException e) {
+            recordFailure(event, e);
+        }
+    }
+
+    private void recordFailure(OutboxEvent event, RuntimeException e) {
+        int attempts = event.getAttempts() + 1;
+        String error = truncate(e.getClass().getSimpleName() + ": " + e.getMessage());
+
+        if (attempts >= maxAttempts) {
+            outboxEventRepository.markAttemptFailed(event.getId(), OutboxEvent.Status.FAILED, LocalDateTime.now(), error);
+            failed.increment();
+            log.error("❌ Giving up on {} event {} to {} after {} attempts: {}",
+                    event.getEventType(), event.getEventId(), event.getDestination(), attempts, error);
+            return;
+        }
+
+        Duration backoff = backoff(attempts);
+        outboxEventRepository.markAttemptFailed(event.getId(), OutboxEvent.Status.PENDING,
+                LocalDateTime.now().plus(backoff), error);
+        retried.increment();
+        log.warn("⚠️ Failed to deliver {} event {} to {} (attempt {}), retrying in {} ms: {}",
+                event.getEventType(), event.getEventId(), event.getDestination(), attempts, backoff.toMillis(), error);
+    }
+
+    private Duration backoff(int attempts) {
+        long millis = initialBackoff.toMillis() << Math.min(attempts - 1, 20);
+        return Duration.ofMillis(Math.min(millis, maxBackoff.toMillis()));
+    }
+
+    private DomainEvent toDomainEvent(OutboxEvent event) {
+        try {
+            return new DomainEvent(event.getEventId(), event.getEventType(), source, event.getAggregateId(),
+                    event.getOccurredAt(), objectMapper.readTree(event.getPayload()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable outbox payload: " + e.getMessage(), e);
+        }
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= 500 ? message : message.substring(0, 500);
+    }
+
+    private static Counter deliveryCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("events.outbox.deliveries")
+                .description("Outbox delivery attempts by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,53 @@
+package com.campusworks.bidding.eventbus;
+
+import com.campusworks.bidding.service.TaskSnapshotService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Task Event Handler
+ * Applies Task Service's task changes to the local task snapshot
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskEventHandler implements DomainEventHandler {
+
+    private static final Set<String> TYPES = Set.of(
+            DomainEventType.TASK_CREATED.name(),
+            DomainEventType.TASK_UPDATED.name(),
+            DomainEventType.TASK_DELETED.name());
+
+    private final TaskSnapshotService taskSnapshotService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(String type) {
+        return TYPES.contains(type);
+    }
+
+    @Override
+    public void handle(DomainEvent event) {
+        TaskPayload task;
+        try {
+            task = objectMapper.treeToValue(event.payload(), TaskPayload.class);
+        } catch (JsonProcessingException e) {
+            throw new EventRejectedException("Malformed " + event.type() + " payload: " + e.getMessage(), e);
+        }
+        if (task.taskId() == null || task.updatedAt() == null) {
+            throw new EventRejectedException(event.type() + " payload is missing taskId or updatedAt");
+        }
+
+        if (DomainEventType.TASK_DELETED.name().equals(event.type())) {
+            taskSnapshotService.markDeleted(task);
+            log.info("🗑️ Task ID: {} marked deleted in the snapshot (event {})", task.taskId(), event.eventId());
+        } else if (taskSnapshotService.apply(task)) {
+            log.debug("✅ Applied {} event {} to the snapshot of task ID: {}", event.type(), event.eventId(), task.taskId());
+        }
+    }
+}
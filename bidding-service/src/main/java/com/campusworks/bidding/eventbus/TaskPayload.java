@@ -0,0 +1,22 @@
+package com.campusworks.bidding.eventbus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Task Payload
+ * Body of Task Service's TASK_CREATED, TASK_UPDATED and TASK_DELETED events and of
+ * its GET /tasks/changes catch-up feed. updatedAt orders the versions of a task; the feed
+ * reports a deleted task with status DELETED
+ */
+public record TaskPayload(Long taskId,
+                          String title,
+                          String category,
+                          BigDecimal budget,
+                          String status,
+                          Long ownerId,
+                          String ownerEmail,
+                          LocalDateTime biddingDeadline,
+                          LocalDateTime completionDeadline,
+                          LocalDateTime updatedAt) {
+}
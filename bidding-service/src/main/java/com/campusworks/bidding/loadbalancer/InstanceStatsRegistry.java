@@ -0,0 +1,117 @@
+package com.campusworks.bidding.loadbalancer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.client.loadbalancer.TimedRequestContext;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Instance Stats Registry
+ * Load balancer lifecycle hook that records in-flight requests, latency and failures
+ * for every instance chosen by {@link LatencyAwareLoadBalancer}
+ */
+@Component
+@Slf4j
+public class InstanceStatsRegistry implements LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+    
+    @Value("${loadbalancer.latency-aware.decay-time-ms:10000}")
+    private long decayTimeMs;
+    
+    @Value("${loadbalancer.latency-aware.failure-threshold:5}")
+    private int failureThreshold;
+    
+    @Value("${loadbalancer.latency-aware.ejection-time-ms:30000}")
+    private long ejectionTimeMs;
+    
+    private final ConcurrentMap<String, InstanceStats> stats = new ConcurrentHashMap<>();
+    
+    public InstanceStats statsFor(ServiceInstance instance) {
+        return stats.computeIfAbsent(key(instance), key -> new InstanceStats());
+    }
+    
+    public double cost(ServiceInstance instance, long nowNanos) {
+        return statsFor(instance).cost(nowNanos, decayNanos());
+    }
+    
+    public boolean isEjected(ServiceInstance instance, long nowNanos) {
+        return statsFor(instance).isEjected(nowNanos);
+    }
+    
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+    
+    @Override
+    public void onStart(Request<Object> request) {
+        // Nothing to record until an instance has been chosen
+    }
+    
+    @Override
+    public void onStartRequest(Request<Object> request, Response<ServiceInstance> lbResponse) {
+        if (request.getContext() instanceof TimedRequestContext timedContext) {
+            timedContext.setRequestStartTime(System.nanoTime());
+        }
+        if (lbResponse != null && lbResponse.hasServer()) {
+            statsFor(lbResponse.getServer()).requestStarted();
+        }
+    }
+    
+    @Override
+    public void onComplete(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (completionContext.status() == CompletionContext.Status.DISCARD
+                || lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+        
+        ServiceInstance instance = lbResponse.getServer();
+        InstanceStats instanceStats = statsFor(instance);
+        long now = System.nanoTime();
+        instanceStats.requestFinished();
+        
+        Request<Object> request = completionContext.getLoadBalancerRequest();
+        if (request != null && request.getContext() instanceof TimedRequestContext timedContext
+                && timedContext.getRequestStartTime() > 0) {
+            instanceStats.recordLatency(now - timedContext.getRequestStartTime(), now, decayNanos());
+        }
+        
+        if (isFailure(completionContext)) {
+            boolean ejected = instanceStats.recordFailure(now, failureThreshold,
+                    TimeUnit.MILLISECONDS.toNanos(ejectionTimeMs));
+            if (ejected) {
+                log.warn("⚠️ Ejecting {} ({}:{}) for {} ms after {} consecutive failures",
+                        instance.getServiceId(), instance.getHost(), instance.getPort(), ejectionTimeMs, failureThreshold);
+            }
+        } else {
+            instanceStats.recordSuccess();
+        }
+    }
+    
+    private boolean isFailure(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        if (completionContext.status() == CompletionContext.Status.FAILED) {
+            return true;
+        }
+        return completionContext.getClientResponse() instanceof ResponseData responseData
+                && responseData.getHttpStatus() != null
+                && responseData.getHttpStatus().is5xxServerError();
+    }
+    
+    private double decayNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(decayTimeMs);
+    }
+    
+    private String key(ServiceInstance instance) {
+        return instance.getServiceId() + "@" + instance.getHost() + ":" + instance.getPort();
+    }
+}
@@ -0,0 +1,95 @@
+package com.campusworks.bidding.loadbalancer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.SelectedInstanceCallback;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency Aware Load Balancer
+ * Power-of-two-choices: samples two healthy instances at random and picks the one with
+ * the lower expected cost (peak EWMA latency x outstanding requests).
+ * Instances ejected for repeated failures are skipped unless every instance is ejected.
+ */
+@Slf4j
+public class LatencyAwareLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+    
+    private final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider;
+    private final String serviceId;
+    private final InstanceStatsRegistry instanceStatsRegistry;
+    
+    public LatencyAwareLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider,
+                                    String serviceId, InstanceStatsRegistry instanceStatsRegistry) {
+        this.serviceInstanceListSupplierProvider = serviceInstanceListSupplierProvider;
+        this.serviceId = serviceId;
+        this.instanceStatsRegistry = instanceStatsRegistry;
+    }
+    
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = serviceInstanceListSupplierProvider
+                .getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next()
+                .map(serviceInstances -> processInstanceResponse(supplier, serviceInstances));
+    }
+    
+    private Response<ServiceInstance> processInstanceResponse(ServiceInstanceListSupplier supplier,
+                                                              List<ServiceInstance> serviceInstances) {
+        Response<ServiceInstance> response = getInstanceResponse(serviceInstances);
+        if (supplier instanceof SelectedInstanceCallback callback && response.hasServer()) {
+            callback.selectedServiceInstance(response.getServer());
+        }
+        return response;
+    }
+    
+    private Response<ServiceInstance> getInstanceResponse(List<ServiceInstance> instances) {
+        if (instances.isEmpty()) {
+            log.warn("⚠️ No servers available for service: {}", serviceId);
+            return new EmptyResponse();
+        }
+        if (instances.size() == 1) {
+            return new DefaultResponse(instances.get(0));
+        }
+        
+        long now = System.nanoTime();
+        List<ServiceInstance> candidates = healthyInstances(instances, now);
+        if (candidates.size() == 1) {
+            return new DefaultResponse(candidates.get(0));
+        }
+        
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        
+        ServiceInstance a = candidates.get(first);
+        ServiceInstance b = candidates.get(second);
+        ServiceInstance chosen = instanceStatsRegistry.cost(a, now) <= instanceStatsRegistry.cost(b, now) ? a : b;
+        return new DefaultResponse(chosen);
+    }
+    
+    private List<ServiceInstance> healthyInstances(List<ServiceInstance> instances, long now) {
+        List<ServiceInstance> healthy = new ArrayList<>(instances.size());
+        for (ServiceInstance instance : instances) {
+            if (!instanceStatsRegistry.isEjected(instance, now)) {
+                healthy.add(instance);
+            }
+        }
+        // Never eject everything - a degraded instance beats no instance
+        return healthy.isEmpty() ? instances : healthy;
+    }
+}
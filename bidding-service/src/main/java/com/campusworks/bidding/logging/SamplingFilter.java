@@ -0,0 +1,68 @@
+package com.campusworks.bidding.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sampling Filter
+ * Logback filter that keeps 1 in N events for high-volume loggers. Events are counted per
+ * logger and message template, so every distinct message is still logged the first time.
+ * Events above the sampled level (WARN/ERROR by default) are never dropped.
+ */
+public class SamplingFilter extends Filter<ILoggingEvent> {
+    
+    private final List<String> loggerPrefixes = new ArrayList<>();
+    private final ConcurrentMap<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private Level maxLevel = Level.INFO;
+    private int rate = 100;
+    
+    @Override
+    public FilterReply decide(ILoggingEvent event) {
+        if (rate <= 1 || event.getLevel().toInt() > maxLevel.toInt()) {
+            return FilterReply.NEUTRAL;
+        }
+        if (!isSampled(event.getLoggerName())) {
+            return FilterReply.NEUTRAL;
+        }
+        
+        String key = event.getLoggerName() + '|' + event.getMessage();
+        long count = counters.computeIfAbsent(key, k -> new AtomicLong()).getAndIncrement();
+        return count % rate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+    
+    private boolean isSampled(String loggerName) {
+        for (String prefix : loggerPrefixes) {
+            if (loggerName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /** Comma-separated logger name prefixes to sample */
+    public void setLoggers(String loggers) {
+        for (String logger : loggers.split(",")) {
+            if (!logger.isBlank()) {
+                loggerPrefixes.add(logger.trim());
+            }
+        }
+    }
+    
+    /** Highest level that is sampled; anything above always passes */
+    public void setMaxLevel(String maxLevel) {
+        this.maxLevel = Level.toLevel(maxLevel, Level.INFO);
+    }
+    
+    /** Keep one event out of this many */
+    public void setRate(int rate) {
+        this.rate = rate;
+    }
+}
@@ -0,0 +1,51 @@
+package com.campusworks.bidding.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Processed Event
+ * Id of every event received from another service, so redelivered events are applied only once
+ */
+@Entity
+@Table(name = "processed_events", indexes = {
+        @Index(name = "idx_processed_events_processed_at", columnList = "processed_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProcessedEvent {
+
+    @Id
+    @Column(name = "event_id", length = 36)
+    private String eventId;
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    @Column(length = 100)
+    private String source;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Outcome outcome;
+
+    @Column(name = "processed_at", nullable = false)
+    private LocalDateTime processedAt;
+
+    /**
+     * Processing Outcome
+     */
+    public enum Outcome {
+        /** A handler applied the event */
+        HANDLED,
+        /** A handler refused the event (e.g. the task was already in another state) */
+        REJECTED,
+        /** No handler for this event type */
+        IGNORED
+    }
+}
@@ -0,0 +1,44 @@
+package com.campusworks.bidding.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Sync Cursor
+ * Position reached in another service's keyset-paginated changes feed, taken from the last
+ * entry the feed returned. Events never move it, so a change they missed is still fetched.
+ */
+@Entity
+@Table(name = "sync_cursors")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncCursor {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    /** updatedAt of the last entry read from the feed */
+    @Column(name = "position_updated_at", nullable = false)
+    private LocalDateTime positionUpdatedAt;
+
+    /** Id of the last entry read from the feed, to break updatedAt ties */
+    @Column(name = "position_id", nullable = false)
+    private Long positionId;
+
+    @Column(name = "saved_at", nullable = false)
+    private LocalDateTime savedAt;
+
+    /**
+     * Whether (updatedAt, id) lies after this position
+     */
+    public boolean isBefore(LocalDateTime updatedAt, Long id) {
+        return updatedAt.isAfter(positionUpdatedAt)
+                || (updatedAt.isEqual(positionUpdatedAt) && id > positionId);
+    }
+}
@@ -0,0 +1,110 @@
+package com.campusworks.bidding.model;
+
+import com.campusworks.bidding.eventbus.TaskPayload;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Task Snapshot
+ * Local copy of the task columns bidding decisions need, kept up to date from Task Service's
+ * task events and a periodic catch-up sync, so bid placement and the schedulers do not call it
+ */
+@Entity
+@Table(name = "task_snapshot", indexes = {
+        @Index(name = "idx_task_snapshot_task_updated_at", columnList = "task_updated_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSnapshot {
+
+    /** Status kept for deleted tasks so late, older updates cannot bring them back */
+    public static final String DELETED = "DELETED";
+
+    @Id
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Column(nullable = false, length = 100)
+    private String title;
+
+    @Column(length = 30)
+    private String category;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    @Column(name = "owner_email")
+    private String ownerEmail;
+
+    @Column(precision = 10, scale = 2)
+    private BigDecimal budget;
+
+    @Column(name = "bidding_deadline")
+    private LocalDateTime biddingDeadline;
+
+    @Column(name = "completion_deadline")
+    private LocalDateTime completionDeadline;
+
+    /** Task Service's updatedAt of the version held here */
+    @Column(name = "task_updated_at", nullable = false)
+    private LocalDateTime taskUpdatedAt;
+
+    @Column(name = "synced_at", nullable = false)
+    private LocalDateTime syncedAt;
+
+    /**
+     * Whether the payload is the same or a newer version than the one held here
+     * Deleted tasks are never brought back; task ids are not reused
+     */
+    public boolean isSupersededBy(TaskPayload payload) {
+        if (isDeleted()) {
+            return false;
+        }
+        return taskUpdatedAt == null || !payload.updatedAt().isBefore(taskUpdatedAt);
+    }
+
+    /**
+     * Copy the payload's columns into this snapshot
+     */
+    public void apply(TaskPayload payload, LocalDateTime now) {
+        this.taskId = payload.taskId();
+        this.title = payload.title();
+        this.category = payload.category();
+        this.status = payload.status();
+        this.ownerId = payload.ownerId();
+        this.ownerEmail = payload.ownerEmail();
+        this.budget = payload.budget();
+        this.biddingDeadline = payload.biddingDeadline();
+        this.completionDeadline = payload.completionDeadline();
+        this.taskUpdatedAt = payload.updatedAt();
+        this.syncedAt = now;
+    }
+
+    /**
+     * Same rule as Task Service: OPEN and the bidding deadline not yet passed
+     */
+    public boolean isOpenForBidding(LocalDateTime now) {
+        return "OPEN".equals(status) && !isBiddingDeadlinePassed(now);
+    }
+
+    public boolean isDeleted() {
+        return DELETED.equals(status);
+    }
+
+    public boolean isBiddingDeadlinePassed(LocalDateTime now) {
+        return biddingDeadline != null && now.isAfter(biddingDeadline);
+    }
+
+    public boolean isCompletionDeadlinePassed(LocalDateTime now) {
+        return completionDeadline != null && now.isAfter(completionDeadline);
+    }
+}
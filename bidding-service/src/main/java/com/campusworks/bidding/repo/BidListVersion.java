@@ -0,0 +1,26 @@
+package com.campusworks.bidding.repo;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Bid List Version
+ * Bid count and latest update for a task, used to answer conditional GETs
+ * on the task's bid list without loading the bids
+ */
+public record BidListVersion(Long count, LocalDateTime lastUpdated) {
+
+    /**
+     * Weak ETag that changes when a bid is added, removed or updated
+     */
+    public String eTag(Long taskId) {
+        return "W/\"task-" + taskId + "-bids-" + count + "-" + Math.max(lastModified(), 0) + "\"";
+    }
+
+    /**
+     * Latest bid modification time in epoch millis, or -1 when the task has no bids
+     */
+    public long lastModified() {
+        return lastUpdated == null ? -1 : lastUpdated.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
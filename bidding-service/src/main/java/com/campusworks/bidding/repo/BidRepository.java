@@ -2,7 +2,9 @@ package com.campusworks.bidding.repo;
 
 import com.campusworks.bidding.model.Bid;
 import com.campusworks.bidding.model.Bid.BidStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -71,17 +73,29 @@ public interface BidRepository extends JpaRepository<Bid, Long> {
     
 
     
+    /**
+     * Find lowest pending bid for a task, earliest bid winning ties
+     */
+    Optional<BidSummary> findFirstByTaskIdAndStatusOrderByAmountAscCreatedAtAsc(Long taskId, BidStatus status);
+    
+    /**
+     * Find highest pending bid for a task, earliest bid winning ties
+     */
+    Optional<BidSummary> findFirstByTaskIdAndStatusOrderByAmountDescCreatedAtAsc(Long taskId, BidStatus status);
+    
     /**
      * Find lowest bid for a task
      */
-    @Query("SELECT b FROM Bid b WHERE b.taskId = :taskId AND b.status = 'PENDING' ORDER BY b.amount ASC")
-    Optional<Bid> findLowestBidForTask(@Param("taskId") Long taskId);
+    default Optional<BidSummary> findLowestBidForTask(Long taskId) {
+        return findFirstByTaskIdAndStatusOrderByAmountAscCreatedAtAsc(taskId, BidStatus.PENDING);
+    }
     
     /**
      * Find highest bid for a task
      */
-    @Query("SELECT b FROM Bid b WHERE b.taskId = :taskId AND b.status = 'PENDING' ORDER BY b.amount DESC")
-    Optional<Bid> findHighestBidForTask(@Param("taskId") Long taskId);
+    default Optional<BidSummary> findHighestBidForTask(Long taskId) {
+        return findFirstByTaskIdAndStatusOrderByAmountDescCreatedAtAsc(taskId, BidStatus.PENDING);
+    }
     
     /**
      * Find bids by amount range
@@ -106,6 +120,13 @@ public interface BidRepository extends JpaRepository<Bid, Long> {
      */
     long countByTaskId(Long taskId);
     
+    /**
+     * Count and latest update time of a task's bids, for conditional GETs
+     */
+    @Query("SELECT new com.campusworks.bidding.repo.BidListVersion(COUNT(b), MAX(b.updatedAt)) " +
+           "FROM Bid b WHERE b.taskId = :taskId")
+    BidListVersion findBidListVersion(@Param("taskId") Long taskId);
+    
     /**
      * Count bids by bidder ID
      */
@@ -267,12 +288,32 @@ public interface BidRepository extends JpaRepository<Bid, Long> {
     /**
      * Check if task has accepted bid with UPI ID submitted
      */
-    @Query("SELECT COUNT(b) > 0 FROM Bid b WHERE b.taskId = :taskId AND b.status = 'ACCEPTED' AND b.upiId IS NOT NULL AND b.upiId != ''")
-    boolean existsAcceptedBidWithUpiIdForTask(@Param("taskId") Long taskId);
+    boolean existsByTaskIdAndStatusAndUpiIdIsNotNullAndUpiIdNot(Long taskId, BidStatus status, String upiId);
+    
+    /**
+     * Check if task has accepted bid with UPI ID submitted
+     */
+    default boolean existsAcceptedBidWithUpiIdForTask(Long taskId) {
+        return existsByTaskIdAndStatusAndUpiIdIsNotNullAndUpiIdNot(taskId, BidStatus.ACCEPTED, "");
+    }
+    
+    /**
+     * Check if task has accepted bid with UPI ID viewed
+     */
+    boolean existsByTaskIdAndStatusAndUpiIdViewedTrue(Long taskId, BidStatus status);
     
     /**
      * Check if task has accepted bid with UPI ID viewed
      */
-    @Query("SELECT COUNT(b) > 0 FROM Bid b WHERE b.taskId = :taskId AND b.status = 'ACCEPTED' AND b.upiIdViewed = true")
-    boolean existsAcceptedBidWithViewedUpiIdForTask(@Param("taskId") Long taskId);
+    default boolean existsAcceptedBidWithViewedUpiIdForTask(Long taskId) {
+        return existsByTaskIdAndStatusAndUpiIdViewedTrue(taskId, BidStatus.ACCEPTED);
+    }
+    
+    /**
+     * Load a bid and lock its row until the surrounding transaction ends, so a state change
+     * re-validated under the lock cannot be applied twice by concurrent requests
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Bid b WHERE b.id = :id")
+    Optional<Bid> findByIdForUpdate(@Param("id") Long id);
 }
@@ -0,0 +1,21 @@
+package com.campusworks.bidding.repo;
+
+import com.campusworks.bidding.model.Bid.BidStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Bid Summary
+ * Projection of a bid without the proposal text and UPI details
+ */
+public record BidSummary(Long id,
+                         Long taskId,
+                         Long bidderId,
+                         String bidderEmail,
+                         BigDecimal amount,
+                         BidStatus status,
+                         Boolean isWinning,
+                         Boolean isAccepted,
+                         LocalDateTime createdAt) {
+}
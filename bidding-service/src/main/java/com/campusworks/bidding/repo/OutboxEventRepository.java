@@ -0,0 +1,81 @@
+package com.campusworks.bidding.repo;
+
+import com.campusworks.bidding.model.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Outbox Event Repository
+ * Handles database operations for OutboxEvent entities
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Find pending events that are due and not claimed by another relay, oldest first.
+     * An event is held back while an older PENDING event for the same aggregate and destination
+     * exists, so subscribers see each aggregate's events in order even when one is backing off.
+     * Rows locked by a concurrent claim are skipped (lock timeout -2 = SKIP LOCKED).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM OutboxEvent o WHERE o.status = com.campusworks.bidding.model.OutboxEvent.Status.PENDING " +
+           "AND o.nextAttemptAt <= :now AND (o.claimedUntil IS NULL OR o.claimedUntil < :now) " +
+           "AND NOT EXISTS (SELECT 1 FROM OutboxEvent older WHERE older.aggregateId = o.aggregateId " +
+           "AND older.destination = o.destination AND older.id < o.id " +
+           "AND older.status = com.campusworks.bidding.model.OutboxEvent.Status.PENDING) ORDER BY o.id")
+    List<OutboxEvent> findDeliverable(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Mark an event as delivered
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent o SET o.status = com.campusworks.bidding.model.OutboxEvent.Status.PUBLISHED, " +
+           "o.attempts = o.attempts + 1, o.publishedAt = :now, o.claimedUntil = NULL, o.lastError = NULL WHERE o.id = :id")
+    int markPublished(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * Record a failed attempt and when to try again, or give up with FAILED
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent o SET o.status = :status, o.attempts = o.attempts + 1, o.nextAttemptAt = :nextAttemptAt, " +
+           "o.claimedUntil = NULL, o.lastError = :error WHERE o.id = :id")
+    int markAttemptFailed(@Param("id") Long id,
+                          @Param("status") OutboxEvent.Status status,
+                          @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                          @Param("error") String error);
+
+    /**
+     * Ids of events delivered before the cutoff, oldest first, for the retention job
+     */
+    @Query("SELECT o.id FROM OutboxEvent o WHERE o.status = com.campusworks.bidding.model.OutboxEvent.Status.PUBLISHED " +
+           "AND o.publishedAt < :cutoff ORDER BY o.id")
+    List<Long> findPublishedIdsBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * Delete the given events
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboxEvent o WHERE o.id IN :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+
+    /**
+     * Count events by delivery status
+     */
+    long countByStatus(OutboxEvent.Status status);
+}
@@ -0,0 +1,47 @@
+package com.campusworks.bidding.repo;
+
+import com.campusworks.bidding.model.ProcessedEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Processed Event Repository
+ * Handles database operations for ProcessedEvent entities
+ */
+@Repository
+public interface ProcessedEventRepository extends JpaRepository<ProcessedEvent, String> {
+
+    /**
+     * Insert the event id; a concurrent duplicate fails on the primary key instead of being merged
+     */
+    @Modifying
+    @Query(value = "INSERT INTO processed_events (event_id, event_type, source, outcome, processed_at) " +
+                   "VALUES (:eventId, :eventType, :source, :outcome, :processedAt)", nativeQuery = true)
+    int insert(@Param("eventId") String eventId,
+               @Param("eventType") String eventType,
+               @Param("source") String source,
+               @Param("outcome") String outcome,
+               @Param("processedAt") LocalDateTime processedAt);
+
+    /**
+     * Ids of events processed before the cutoff, oldest first, for the retention job
+     */
+    @Query("SELECT p.eventId FROM ProcessedEvent p WHERE p.processedAt < :cutoff ORDER BY p.processedAt")
+    List<String> findIdsProcessedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * Delete the given event ids
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ProcessedEvent p WHERE p.eventId IN :ids")
+    int deleteByIds(@Param("ids") List<String> ids);
+}
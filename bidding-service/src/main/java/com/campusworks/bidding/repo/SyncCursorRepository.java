@@ -0,0 +1,13 @@
+package com.campusworks.bidding.repo;
+
+import com.campusworks.bidding.model.SyncCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Sync Cursor Repository
+ * Handles database operations for SyncCursor entities
+ */
+@Repository
+public interface SyncCursorRepository extends JpaRepository<SyncCursor, String> {
+}
@@ -0,0 +1,13 @@
+package com.campusworks.bidding.repo;
+
+import com.campusworks.bidding.model.TaskSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Task Snapshot Repository
+ * Handles database operations for TaskSnapshot entities
+ */
+@Repository
+public interface TaskSnapshotRepository extends JpaRepository<TaskSnapshot, Long> {
+}
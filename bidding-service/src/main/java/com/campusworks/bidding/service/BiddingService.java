@@ -1,25 +1,33 @@
 package com.campusworks.bidding.service;
 
-import com.campusworks.bidding.client.TaskServiceClient;
+import com.campusworks.bidding.config.SchedulerMetrics;
 import com.campusworks.bidding.model.Bid;
+import com.campusworks.bidding.model.TaskSnapshot;
+import com.campusworks.bidding.repo.BidListVersion;
 import com.campusworks.bidding.repo.BidRepository;
+import com.campusworks.bidding.repo.BidSummary;
 import com.campusworks.bidding.dto.TaskStatusUpdateRequest;
-import com.campusworks.bidding.dto.BiddingStatusResponse;
-import com.campusworks.bidding.dto.TaskUpdateResponse;
+import com.campusworks.bidding.event.BidAcceptedEvent;
+import com.campusworks.bidding.event.BidEventListener;
+import com.campusworks.bidding.event.UpiIdSubmittedEvent;
+import com.campusworks.bidding.event.WorkAcceptedEvent;
+import com.campusworks.bidding.eventbus.BidPayload;
+import com.campusworks.bidding.eventbus.DomainEventBus;
+import com.campusworks.bidding.eventbus.DomainEventType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
-import com.campusworks.bidding.dto.TaskAssignmentRequest;
-import com.campusworks.bidding.dto.TaskOwnershipResponse;
-import com.campusworks.bidding.service.MailService;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Map;
@@ -28,20 +36,21 @@ import java.util.ArrayList;
 /**
  * Bidding Service
  * Handles business logic for bid management
+ * Bid changes commit in short local transactions. Task state is read from the local
+ * task snapshot, and Task Service learns about bid outcomes through the domain event bus;
+ * emails run after commit in {@link BidEventListener}.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional
 public class BiddingService {
     
     private final BidRepository bidRepository;
-    
-    @Autowired
-    private TaskServiceClient taskServiceClient;
-    
-    @Autowired
-    private MailService mailService;
+    private final SchedulerMetrics schedulerMetrics;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DomainEventBus domainEventBus;
+    private final TaskSnapshotService taskSnapshotService;
     
     @Value("${bidding.min-amount:50.00}")
     private BigDecimal minBidAmount;
@@ -69,40 +78,15 @@ public class BiddingService {
                 bid.getTaskId(), bid.getBidderEmail(), bid.getBidderId(), bid.getAmount());
         
         try {
-            // Validate task exists and is open for bidding via Task Service
-            boolean taskExists = taskServiceClient.checkTaskExists(bid.getTaskId());
-            if (!taskExists) {
-                log.error("❌ Task ID: {} does not exist", bid.getTaskId());
-                throw new RuntimeException("Task not found");
-            }
+            // Validate task exists and is open for bidding against the local task snapshot
+            TaskSnapshot task = taskSnapshotService.getTask(bid.getTaskId())
+                    .orElseThrow(() -> {
+                        log.error("❌ Task ID: {} does not exist", bid.getTaskId());
+                        return new RuntimeException("Task not found");
+                    });
             
             // 🚨 OWNER BIDDING RESTRICTION: Prevent task owners from bidding on their own tasks
-            log.info("🔍 Calling Task Service to check ownership for task {} and user {}", bid.getTaskId(), bid.getBidderId());
-            
-            boolean isOwner = false;
-            try {
-                TaskOwnershipResponse ownershipResponse = taskServiceClient.isTaskOwner(bid.getTaskId(), bid.getBidderId());
-                
-                log.info("🔍 Ownership response received: {}", ownershipResponse);
-                log.info("🔍 Response details - taskId: {}, userId: {}, isOwner: {}, message: {}, success: {}", 
-                        ownershipResponse.getTaskId(), 
-                        ownershipResponse.getUserId(), 
-                        ownershipResponse.isOwner(), 
-                        ownershipResponse.getMessage(), 
-                        ownershipResponse.isSuccess());
-                
-                isOwner = ownershipResponse.isOwner();
-                
-            } catch (Exception e) {
-                log.error("❌ Error during ownership check via Feign Client: {}", e.getMessage());
-                log.error("❌ Full error details: ", e);
-                
-                // If Feign Client fails, assume user IS owner for safety
-                log.warn("⚠️ Assuming user IS owner for safety due to Feign Client failure");
-                isOwner = true;
-            }
-            
-            if (isOwner) {
+            if (task.getOwnerId().equals(bid.getBidderId())) {
                 log.error("❌ BLOCKED: User {} (ID: {}) attempted to bid on their own task ID: {}", 
                         bid.getBidderEmail(), bid.getBidderId(), bid.getTaskId());
                 throw new RuntimeException("Task owners cannot bid on their own tasks. This creates a conflict of interest and is not allowed.");
@@ -110,30 +94,16 @@ public class BiddingService {
             
             log.info("✅ Owner validation passed: User {} is not the owner of task {}", bid.getBidderEmail(), bid.getTaskId());
             
-            // Get task bidding status from Task Service
-            BiddingStatusResponse biddingStatusResponse = taskServiceClient.getTaskBiddingStatus(bid.getTaskId());
-            
-            if (biddingStatusResponse == null) {
-                log.error("❌ Failed to get bidding status for task ID: {}", bid.getTaskId());
-                throw new RuntimeException("Failed to get task bidding status");
-            }
-            
-            boolean isOpenForBidding = biddingStatusResponse.isOpenForBidding();
-            String status = biddingStatusResponse.getStatus();
-            LocalDateTime biddingDeadline = biddingStatusResponse.getBiddingDeadline();
-            
-            if (!isOpenForBidding) {
+            LocalDateTime now = LocalDateTime.now();
+            if (!task.isOpenForBidding(now)) {
                 log.error("❌ Task ID: {} is not open for bidding - Status: {}, Bidding Deadline: {}", 
-                    bid.getTaskId(), status, biddingDeadline);
+                    bid.getTaskId(), task.getStatus(), task.getBiddingDeadline());
                 
                 // Provide more specific error message
                 String errorMessage = "Task is not open for bidding";
-                if (biddingDeadline != null) {
-                    LocalDateTime now = LocalDateTime.now();
-                    if (now.isAfter(biddingDeadline)) {
-                        errorMessage = "Bidding period has expired. Bidding deadline was: " + 
-                                     biddingDeadline.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
-                    }
+                if (task.isBiddingDeadlinePassed(now)) {
+                    errorMessage = "Bidding period has expired. Bidding deadline was: " + 
+                                 task.getBiddingDeadline().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
                 }
                 throw new RuntimeException(errorMessage);
             }
@@ -154,15 +124,18 @@ public class BiddingService {
             bid.setCreatedAt(LocalDateTime.now());
             bid.setUpdatedAt(LocalDateTime.now());
             
-            // Save bid
-            Bid savedBid = bidRepository.save(bid);
+            // Save bid and recompute the winning bid in one short transaction
+            Bid savedBid = transactionTemplate.execute(status -> {
+                Bid saved = bidRepository.save(bid);
+                updateWinningBidStatus(saved.getTaskId());
+                domainEventBus.publish(DomainEventType.BID_PLACED, saved.getTaskId(),
+                        BidPayload.of(saved, task.getCategory(), saved.getCreatedAt()));
+                return saved;
+            });
             
             log.info("✅ Bid placed successfully: ID: {}, Amount: ${}, Task: {}", 
                     savedBid.getId(), savedBid.getAmount(), savedBid.getTaskId());
             
-            // Check if this is the lowest bid and update winning status
-            updateWinningBidStatus(bid.getTaskId());
-            
             return savedBid;
             
         } catch (Exception e) {
@@ -174,6 +147,7 @@ public class BiddingService {
     /**
      * Get bid by ID
      */
+    @Transactional(readOnly = true)
     public Optional<Bid> getBidById(Long id) {
         log.info("🔍 Retrieving bid with ID: {}", id);
         
@@ -192,6 +166,7 @@ public class BiddingService {
     /**
      * Get all bids for a task
      */
+    @Transactional(readOnly = true)
     public List<Bid> getBidsByTaskId(Long taskId) {
         log.info("📋 Retrieving all bids for task ID: {}", taskId);
         
@@ -202,9 +177,18 @@ public class BiddingService {
         return bids;
     }
     
+    /**
+     * Get the version of a task's bid list for conditional GETs without loading the bids
+     */
+    @Transactional(readOnly = true)
+    public BidListVersion getBidListVersion(Long taskId) {
+        return bidRepository.findBidListVersion(taskId);
+    }
+    
     /**
      * Get all bids by a user
      */
+    @Transactional(readOnly = true)
     public List<Bid> getBidsByUserId(Long userId) {
         log.info("👤 Retrieving all bids by user ID: {}", userId);
         
@@ -218,6 +202,7 @@ public class BiddingService {
     /**
      * Get all bids by user email
      */
+    @Transactional(readOnly = true)
     public List<Bid> getBidsByUserEmail(String userEmail) {
         log.info("📧 Retrieving all bids by user email: {}", userEmail);
         
@@ -231,6 +216,7 @@ public class BiddingService {
     /**
      * Get all bids by status
      */
+    @Transactional(readOnly = true)
     public List<Bid> getBidsByStatus(Bid.BidStatus status) {
         log.info("🏷️ Retrieving bids with status: {}", status);
         
@@ -244,6 +230,7 @@ public class BiddingService {
     /**
      * Get winning bid for a task
      */
+    @Transactional(readOnly = true)
     public Optional<Bid> getWinningBidForTask(Long taskId) {
         log.info("🏆 Retrieving winning bid for task ID: {}", taskId);
         
@@ -262,14 +249,15 @@ public class BiddingService {
     /**
      * Get lowest bid for a task
      */
-    public Optional<Bid> getLowestBidForTask(Long taskId) {
+    @Transactional(readOnly = true)
+    public Optional<BidSummary> getLowestBidForTask(Long taskId) {
         log.info("💰 Retrieving lowest bid for task ID: {}", taskId);
         
-        Optional<Bid> lowestBid = bidRepository.findLowestBidForTask(taskId);
+        Optional<BidSummary> lowestBid = bidRepository.findLowestBidForTask(taskId);
         
         if (lowestBid.isPresent()) {
             log.info("✅ Lowest bid found: ID: {}, Amount: ${}, Bidder: {}", 
-                    lowestBid.get().getId(), lowestBid.get().getAmount(), lowestBid.get().getBidderEmail());
+                    lowestBid.get().id(), lowestBid.get().amount(), lowestBid.get().bidderEmail());
         } else {
             log.info("ℹ️ No bids found for task ID: {}", taskId);
         }
@@ -280,14 +268,15 @@ public class BiddingService {
     /**
      * Get highest bid for a task
      */
-    public Optional<Bid> getHighestBidForTask(Long taskId) {
+    @Transactional(readOnly = true)
+    public Optional<BidSummary> getHighestBidForTask(Long taskId) {
         log.info("💎 Retrieving highest bid for task ID: {}", taskId);
         
-        Optional<Bid> highestBid = bidRepository.findHighestBidForTask(taskId);
+        Optional<BidSummary> highestBid = bidRepository.findHighestBidForTask(taskId);
         
         if (highestBid.isPresent()) {
             log.info("✅ Highest bid found: ID: {}, Amount: ${}, Bidder: {}", 
-                    highestBid.get().getId(), highestBid.get().getAmount(), highestBid.get().getBidderEmail());
+                    highestBid.get().id(), highestBid.get().amount(), highestBid.get().bidderEmail());
         } else {
             log.info("ℹ️ No bids found for task ID: {}", taskId);
         }
@@ -302,77 +291,37 @@ public class BiddingService {
         log.info("👍 Accepting bid ID: {} by task owner: {}", bidId, taskOwnerId);
         
         try {
-            Optional<Bid> bidOpt = bidRepository.findById(bidId);
-            
-            if (bidOpt.isEmpty()) {
-                log.warn("❌ Bid not found with ID: {}", bidId);
-                throw new RuntimeException("Bid not found");
-            }
-            
-            Bid bid = bidOpt.get();
-            
-            // Check if bid is still pending
-            if (!bid.isPending()) {
-                log.warn("❌ Bid ID: {} cannot be accepted - status is: {}", bidId, bid.getStatus());
-                throw new RuntimeException("Bid cannot be accepted - it is not pending");
-            }
-            
-            // Accept the bid
-            bid.acceptBid();
-            
-            // Mark all other bids for this task as rejected
-            rejectOtherBidsForTask(bid.getTaskId(), bidId);
-            
-            Bid savedBid = bidRepository.save(bid);
-            
-            // Update task acceptance timestamp in Task Service via Feign Client
-            TaskUpdateResponse acceptRequest = TaskUpdateResponse.builder()
-                .taskId(bid.getTaskId())
-                .status("IN_PROGRESS")
-                .message("Bid accepted: " + bid.getProposal())
-                .updatedAt(LocalDateTime.now())
-                .acceptedAt(savedBid.getAcceptedAt()) // Sync accepted_at timestamp
-                .success(true)
-                .build();
-            
-            try {
-                taskServiceClient.acceptTask(bid.getTaskId(), acceptRequest);
-                log.info("✅ Task acceptance timestamp synchronized for task ID: {} at {}", 
-                        bid.getTaskId(), savedBid.getAcceptedAt());
-            } catch (Exception e) {
-                log.warn("⚠️ Failed to synchronize task acceptance timestamp: {}", e.getMessage());
-                // Continue with bid acceptance even if task service update fails
-            }
-            
-            // Send email notifications
-            try {
-                var taskResponse = taskServiceClient.getTaskById(bid.getTaskId());
-                if (taskResponse != null) {
-                    // Send email to bidder
-                    mailService.sendTaskAssignmentEmailToBidder(
-                        savedBid.getBidderEmail(),
-                        taskResponse.getOwnerEmail(),
-                        taskResponse.getTitle(),
-                        taskResponse.getCompletionDeadline(),
-                        savedBid.getAmount()
-                    );
-                    
-                    // Send email to task owner
-                    mailService.sendTaskAssignmentEmailToOwner(
-                        taskResponse.getOwnerEmail(),
-                        taskResponse.getTitle(),
-                        savedBid.getBidderEmail(),
-                        savedBid.getAmount(),
-                        savedBid.getProposal()
-                    );
-                    
-                    log.info("📧 Email notifications sent for manual bid acceptance: {}", savedBid.getId());
+            Bid savedBid = transactionTemplate.execute(status -> {
+                Optional<Bid> bidOpt = bidRepository.findById(bidId);
+                
+                if (bidOpt.isEmpty()) {
+                    log.warn("❌ Bid not found with ID: {}", bidId);
+                    throw new RuntimeException("Bid not found");
                 }
-            } catch (Exception e) {
-                log.warn("⚠️ Failed to send email notifications for bid acceptance: {}. Error: {}", 
-                        savedBid.getId(), e.getMessage());
-                // Continue even if email fails
-            }
+                
+                Bid bid = bidOpt.get();
+                
+                // Check if bid is still pending
+                if (!bid.isPending()) {
+                    log.warn("❌ Bid ID: {} cannot be accepted - status is: {}", bidId, bid.getStatus());
+                    throw new RuntimeException("Bid cannot be accepted - it is not pending");
+                }
+                
+                // Accept the bid
+                bid.acceptBid();
+                
+                // Mark all other bids for this task as rejected
+                rejectOtherBidsForTask(bid.getTaskId(), bidId);
+                
+                Bid saved = bidRepository.save(bid);
+                
+                // Task Service is updated through the outbox; emails run after commit
+                domainEventBus.publish(DomainEventType.BID_ACCEPTED, saved.getTaskId(),
+                        BidPayload.of(saved, taskSnapshotService.findCategory(saved.getTaskId()), saved.getAcceptedAt()));
+                eventPublisher.publishEvent(BidAcceptedEvent.of(saved, false));
+                
+                return saved;
+            });
             
             log.info("✅ Bid accepted successfully: ID: {}, Amount: ${}, Bidder: {}", 
                     savedBid.getId(), savedBid.getAmount(), savedBid.getBidderEmail());
@@ -388,6 +337,7 @@ public class BiddingService {
     /**
      * Reject a bid
      */
+    @Transactional
     public Bid rejectBid(Long bidId, String rejectionReason) {
         log.info("❌ Rejecting bid ID: {} with reason: {}", bidId, rejectionReason);
         
@@ -419,6 +369,7 @@ public class BiddingService {
     /**
      * Withdraw a bid
      */
+    @Transactional
     public Bid withdrawBid(Long bidId, Long bidderId) {
         log.info("↩️ Withdrawing bid ID: {} by bidder: {}", bidId, bidderId);
         
@@ -459,6 +410,7 @@ public class BiddingService {
     /**
      * Update winning bid status for a task
      */
+    @Transactional
     public void updateWinningBidStatus(Long taskId) {
         log.info("🏆 Updating winning bid status for task ID: {}", taskId);
         
@@ -492,6 +444,7 @@ public class BiddingService {
     /**
      * Get bids that need attention
      */
+    @Transactional(readOnly = true)
     public List<Bid> getBidsNeedingAttention() {
         log.info("⚠️ Retrieving bids that need attention");
         
@@ -505,6 +458,7 @@ public class BiddingService {
     /**
      * Get user's active bids
      */
+    @Transactional(readOnly = true)
     public List<Bid> getUserActiveBids(Long userId) {
         log.info("👤 Retrieving active bids for user ID: {}", userId);
         
@@ -518,6 +472,7 @@ public class BiddingService {
     /**
      * Get user's completed bids
      */
+    @Transactional(readOnly = true)
     public List<Bid> getUserCompletedBids(Long userId) {
         log.info("✅ Retrieving completed bids for user ID: {}", userId);
         
@@ -531,6 +486,7 @@ public class BiddingService {
     /**
      * Delete a bid (only for rejected bids)
      */
+    @Transactional
     public void deleteBid(Long bidId, Long bidderId) {
         log.info("🗑️ Deleting bid ID: {} by bidder ID: {}", bidId, bidderId);
         
@@ -563,6 +519,7 @@ public class BiddingService {
     /**
      * Get bid statistics
      */
+    @Transactional(readOnly = true)
     public BidStatistics getBidStatistics() {
         log.info("📊 Retrieving bid statistics");
         
@@ -709,6 +666,7 @@ public class BiddingService {
         }
         
         log.info("🔄 Starting scheduled job: Processing expired bidding deadlines");
+        long startTime = System.nanoTime();
         
         try {
             // Get all task IDs that have pending bids
@@ -742,6 +700,8 @@ public class BiddingService {
             
         } catch (Exception e) {
             log.error("❌ Error in scheduled job for processing expired bidding deadlines: {}", e.getMessage(), e);
+        } finally {
+            schedulerMetrics.record("processExpiredBiddingDeadlines", System.nanoTime() - startTime);
         }
     }
     
@@ -757,113 +717,107 @@ public class BiddingService {
         }
         
         log.info("🔄 Starting scheduled job: Processing expired tasks");
-        autoCancelExpiredTasks();
+        long startTime = System.nanoTime();
+        try {
+            autoCancelExpiredTasks();
+        } finally {
+            schedulerMetrics.record("autoCancelExpiredTasks", System.nanoTime() - startTime);
+        }
     }
     
     /**
-     * Check if a task's bidding deadline has expired by calling Task Service
+     * Check if a task's bidding deadline has expired, from the local task snapshot
      */
     private boolean isTaskBiddingDeadlineExpired(Long taskId) {
-        try {
-            BiddingStatusResponse biddingStatus = taskServiceClient.getTaskBiddingStatus(taskId);
-            if (biddingStatus != null && biddingStatus.getBiddingDeadline() != null) {
-                LocalDateTime now = LocalDateTime.now();
-                boolean isExpired = now.isAfter(biddingStatus.getBiddingDeadline());
-                log.debug("⏰ Task ID: {} bidding deadline: {}, current time: {}, expired: {}", 
-                        taskId, biddingStatus.getBiddingDeadline(), now, isExpired);
-                return isExpired;
-            }
+        Optional<TaskSnapshot> task = taskSnapshotService.getTask(taskId);
+        if (task.isEmpty() || task.get().getBiddingDeadline() == null) {
             log.warn("⚠️ Could not determine bidding deadline for task ID: {}", taskId);
             return false;
-        } catch (Exception e) {
-            log.error("❌ Error checking bidding deadline for task ID: {}. Error: {}", 
-                    taskId, e.getMessage(), e);
-            return false; // Assume not expired if we can't check
         }
+        
+        LocalDateTime now = LocalDateTime.now();
+        boolean isExpired = task.get().isBiddingDeadlinePassed(now);
+        log.debug("⏰ Task ID: {} bidding deadline: {}, current time: {}, expired: {}", 
+                taskId, task.get().getBiddingDeadline(), now, isExpired);
+        return isExpired;
+    }
+    
+    /**
+     * Order used to pick a winner: lowest amount, then earliest bid, then lowest ID
+     */
+    private static final Comparator<Bid> WINNING_BID_ORDER = Comparator
+            .comparing(Bid::getAmount)
+            .thenComparing(Bid::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Bid::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+    
+    /**
+     * Select the winning bid from a set of candidate bids
+     * Does not rely on the caller's ordering, so it is safe for any collection of pending bids
+     */
+    public static Optional<Bid> selectWinningBid(Collection<Bid> bids) {
+        return bids.stream().min(WINNING_BID_ORDER);
     }
     
     /**
      * Process expired bidding deadline for a specific task
      * Automatically selects the lowest bidder and assigns the task
      */
-    @Transactional
     public void processExpiredBiddingDeadline(Long taskId) {
         log.info("🎯 Processing expired bidding deadline for task ID: {}", taskId);
         
         try {
-            // Get all pending bids for the task, ordered by amount ASC, created_at ASC (tie-breaking)
-            List<Bid> pendingBids = bidRepository.findPendingBidsForTaskOrderedByAmountAndTime(taskId);
-            
-            if (pendingBids.isEmpty()) {
-                log.info("ℹ️ No pending bids found for task ID: {}, skipping automatic assignment", taskId);
-                return;
-            }
-            
-            log.info("💰 Found {} pending bids for task ID: {}", pendingBids.size(), taskId);
-            
-            // Select the winning bid (lowest amount, earliest time for tie-breaking)
-            Bid winningBid = pendingBids.get(0);
-            
-            log.info("🏆 Automatic winner selected: Bid ID: {}, Amount: ${}, Bidder: {} ({}), Created: {}", 
-                    winningBid.getId(), winningBid.getAmount(), winningBid.getBidderEmail(), 
-                    winningBid.getBidderId(), winningBid.getCreatedAt());
-            
-            // Accept the winning bid
-            winningBid.acceptBid();
-            winningBid.setIsWinning(true);
-            winningBid.setIsAccepted(true);
-            bidRepository.save(winningBid);
-            
-            log.info("✅ Winning bid accepted: ID: {}, Status: {}", winningBid.getId(), winningBid.getStatus());
-            
-            // Reject all other bids for this task
-            for (int i = 1; i < pendingBids.size(); i++) {
-                Bid losingBid = pendingBids.get(i);
-                losingBid.rejectBid("Automatic rejection: Another bid was selected as winner");
-                losingBid.setIsWinning(false);
-                bidRepository.save(losingBid);
+            Bid winningBid = transactionTemplate.execute(status -> {
+                // Get all pending bids for the task, ordered by amount ASC, created_at ASC (tie-breaking)
+                List<Bid> pendingBids = bidRepository.findPendingBidsForTaskOrderedByAmountAndTime(taskId);
                 
-                log.info("❌ Bid rejected: ID: {}, Amount: ${}, Bidder: {}, Reason: {}", 
-                        losingBid.getId(), losingBid.getAmount(), losingBid.getBidderEmail(), 
-                        losingBid.getRejectionReason());
-            }
-            
-            // Automatically assign the task to the winning bidder via Task Service
-            assignTaskToWinningBidder(taskId, winningBid);
-            
-            // Send email notifications
-            try {
-                // Get task details for email
-                var taskResponse = taskServiceClient.getTaskById(taskId);
-                if (taskResponse != null) {
-                    // Send email to bidder
-                    mailService.sendTaskAssignmentEmailToBidder(
-                        winningBid.getBidderEmail(),
-                        taskResponse.getOwnerEmail(),
-                        taskResponse.getTitle(),
-                        taskResponse.getCompletionDeadline(),
-                        winningBid.getAmount()
-                    );
-                    
-                    // Send email to task owner
-                    mailService.sendTaskAssignmentEmailToOwner(
-                        taskResponse.getOwnerEmail(),
-                        taskResponse.getTitle(),
-                        winningBid.getBidderEmail(),
-                        winningBid.getAmount(),
-                        winningBid.getProposal()
-                    );
+                if (pendingBids.isEmpty()) {
+                    log.info("ℹ️ No pending bids found for task ID: {}, skipping automatic assignment", taskId);
+                    return null;
+                }
+                
+                log.info("💰 Found {} pending bids for task ID: {}", pendingBids.size(), taskId);
+                
+                // Select the winning bid (lowest amount, earliest time for tie-breaking)
+                Bid winner = selectWinningBid(pendingBids).orElseThrow();
+                
+                log.info("🏆 Automatic winner selected: Bid ID: {}, Amount: ${}, Bidder: {} ({}), Created: {}", 
+                        winner.getId(), winner.getAmount(), winner.getBidderEmail(), 
+                        winner.getBidderId(), winner.getCreatedAt());
+                
+                // Accept the winning bid
+                winner.acceptBid();
+                winner.setIsWinning(true);
+                winner.setIsAccepted(true);
+                bidRepository.save(winner);
+                
+                log.info("✅ Winning bid accepted: ID: {}, Status: {}", winner.getId(), winner.getStatus());
+                
+                // Reject all other bids for this task
+                for (Bid losingBid : pendingBids) {
+                    if (losingBid == winner) {
+                        continue;
+                    }
+                    losingBid.rejectBid("Automatic rejection: Another bid was selected as winner");
+                    losingBid.setIsWinning(false);
+                    bidRepository.save(losingBid);
                     
-                    log.info("📧 Email notifications sent for task assignment: {}", taskId);
+                    log.info("❌ Bid rejected: ID: {}, Amount: ${}, Bidder: {}, Reason: {}", 
+                            losingBid.getId(), losingBid.getAmount(), losingBid.getBidderEmail(), 
+                            losingBid.getRejectionReason());
                 }
-            } catch (Exception e) {
-                log.warn("⚠️ Failed to send email notifications for task assignment: {}. Error: {}", 
-                        taskId, e.getMessage());
-                // Continue even if email fails
-            }
+                
+                // Task assignment goes through the outbox; emails run after commit
+                domainEventBus.publish(DomainEventType.TASK_ASSIGNED, taskId,
+                        BidPayload.of(winner, taskSnapshotService.findCategory(taskId), LocalDateTime.now()));
+                eventPublisher.publishEvent(BidAcceptedEvent.of(winner, true));
+                
+                return winner;
+            });
             
-            log.info("🎉 Task ID: {} automatically assigned to winning bidder: {} (${})", 
-                    taskId, winningBid.getBidderEmail(), winningBid.getAmount());
+            if (winningBid != null) {
+                log.info("🎉 Task ID: {} automatically assigned to winning bidder: {} (${})", 
+                        taskId, winningBid.getBidderEmail(), winningBid.getAmount());
+            }
             
         } catch (Exception e) {
             log.error("❌ Error processing expired bidding deadline for task ID: {}. Error: {}", 
@@ -872,46 +826,6 @@ public class BiddingService {
         }
     }
     
-    /**
-     * Automatically assign task to winning bidder via Task Service
-     */
-    private void assignTaskToWinningBidder(Long taskId, Bid winningBid) {
-        log.info("🔗 Assigning task ID: {} to winning bidder: {} via Task Service", 
-                taskId, winningBid.getBidderEmail());
-        
-        try {
-            // Create task assignment request
-            TaskAssignmentRequest assignmentRequest = TaskAssignmentRequest.builder()
-                    .taskId(taskId)
-                    .assignedUserId(winningBid.getBidderId())
-                    .assignedUserEmail(winningBid.getBidderEmail())
-                    .assignedAt(LocalDateTime.now())
-                    .assignmentReason("Automatic assignment: Lowest bidder selected after bidding deadline expired")
-                    .winningBidAmount(winningBid.getAmount())
-                    .winningBidProposal(winningBid.getProposal())
-                    .status("ASSIGNED")
-                    .message("Task automatically assigned to lowest bidder")
-                    .success(true)
-                    .build();
-            
-            // Call Task Service to assign the task
-            try {
-                taskServiceClient.assignTask(taskId, assignmentRequest);
-                log.info("✅ Task successfully assigned via Task Service for task ID: {}", taskId);
-            } catch (Exception e) {
-                log.error("❌ Failed to assign task via Task Service for task ID: {}. Error: {}", 
-                        taskId, e.getMessage(), e);
-                // Even if Task Service fails, the bid is still accepted
-                // The task can be manually assigned later if needed
-            }
-            
-        } catch (Exception e) {
-            log.error("❌ Error creating task assignment request for task ID: {}. Error: {}", 
-                    taskId, e.getMessage(), e);
-            throw new RuntimeException("Failed to create task assignment request: " + e.getMessage(), e);
-        }
-    }
-    
     /**
      * Manually trigger automatic bid selection for a specific task
      * Useful for testing or manual intervention
@@ -946,38 +860,13 @@ public class BiddingService {
     
     /**
      * Submit UPI ID for an accepted bid
+     * Checked first without a lock (including the remote deadline check), then re-checked and
+     * saved under a row lock so concurrent submissions cannot both succeed
      */
     public Bid submitUpiId(Long bidId, String upiId, Long bidderId) {
         log.info("💳 Submitting UPI ID for bid ID: {} by bidder: {}", bidId, bidderId);
         
         try {
-            Optional<Bid> bidOpt = bidRepository.findById(bidId);
-            
-            if (bidOpt.isEmpty()) {
-                log.warn("❌ Bid not found with ID: {}", bidId);
-                throw new RuntimeException("Bid not found");
-            }
-            
-            Bid bid = bidOpt.get();
-            
-            // Check if bidder owns this bid
-            if (!bid.getBidderId().equals(bidderId)) {
-                log.warn("❌ User {} is not authorized to submit UPI ID for bid ID: {}", bidderId, bidId);
-                throw new RuntimeException("You are not authorized to submit UPI ID for this bid");
-            }
-            
-            // Check if bid is accepted
-            if (!bid.isAccepted()) {
-                log.warn("❌ Bid ID: {} cannot have UPI ID submitted - status is: {}", bidId, bid.getStatus());
-                throw new RuntimeException("UPI ID can only be submitted for accepted bids");
-            }
-            
-            // Check if UPI ID is already submitted
-            if (bid.hasUpiIdSubmitted()) {
-                log.warn("❌ UPI ID already submitted for bid ID: {}", bidId);
-                throw new RuntimeException("UPI ID has already been submitted for this bid");
-            }
-            
             // Validate UPI ID format (basic validation)
             if (upiId == null || upiId.trim().isEmpty()) {
                 throw new RuntimeException("UPI ID is required");
@@ -987,32 +876,25 @@ public class BiddingService {
                 throw new RuntimeException("UPI ID must be between 5 and 50 characters");
             }
             
+            Bid bid = findBid(bidId);
+            checkUpiIdCanBeSubmitted(bid, bidderId);
+            
             // Check if task deadline has expired
             if (isTaskDeadlineExpired(bid.getTaskId())) {
                 log.warn("❌ Task deadline has expired for task ID: {}, cannot submit UPI ID", bid.getTaskId());
                 throw new RuntimeException("Task deadline has expired. UPI ID cannot be submitted.");
             }
             
-            // Submit UPI ID
-            bid.submitUpiId(upiId.trim());
-            Bid savedBid = bidRepository.save(bid);
-            
-            // Send email notification to task owner
-            try {
-                var taskResponse = taskServiceClient.getTaskById(bid.getTaskId());
-                if (taskResponse != null) {
-                    mailService.sendUpiSubmissionEmailToOwner(
-                        taskResponse.getOwnerEmail(),
-                        taskResponse.getTitle(),
-                        bid.getBidderEmail(),
-                        upiId.trim()
-                    );
-                    log.info("📧 UPI submission email sent to task owner: {}", taskResponse.getOwnerEmail());
-                }
-            } catch (Exception e) {
-                log.warn("⚠️ Failed to send UPI submission email: {}", e.getMessage());
-                // Continue even if email fails
-            }
+            // Submit UPI ID; the owner notification is sent after commit
+            Bid savedBid = transactionTemplate.execute(status -> {
+                Bid locked = findBidForUpdate(bidId);
+                checkUpiIdCanBeSubmitted(locked, bidderId);
+                locked.submitUpiId(upiId.trim());
+                Bid saved = bidRepository.save(locked);
+                eventPublisher.publishEvent(new UpiIdSubmittedEvent(
+                        saved.getId(), saved.getTaskId(), saved.getBidderEmail(), saved.getUpiId()));
+                return saved;
+            });
             
             log.info("✅ UPI ID submitted successfully for bid ID: {}, Task: {}", savedBid.getId(), savedBid.getTaskId());
             
@@ -1031,26 +913,8 @@ public class BiddingService {
         log.info("👁️ Viewing UPI ID for bid ID: {} by task owner: {}", bidId, taskOwnerId);
         
         try {
-            Optional<Bid> bidOpt = bidRepository.findById(bidId);
-            
-            if (bidOpt.isEmpty()) {
-                log.warn("❌ Bid not found with ID: {}", bidId);
-                throw new RuntimeException("Bid not found");
-            }
-            
-            Bid bid = bidOpt.get();
-            
-            // Check if bid is accepted
-            if (!bid.isAccepted()) {
-                log.warn("❌ Bid ID: {} cannot have UPI ID viewed - status is: {}", bidId, bid.getStatus());
-                throw new RuntimeException("UPI ID can only be viewed for accepted bids");
-            }
-            
-            // Check if UPI ID has been submitted
-            if (!bid.hasUpiIdSubmitted()) {
-                log.warn("❌ UPI ID not submitted for bid ID: {}", bidId);
-                throw new RuntimeException("UPI ID has not been submitted for this bid");
-            }
+            Bid bid = findBid(bidId);
+            checkUpiIdCanBeViewed(bid);
             
             // Check if task deadline has expired
             if (isTaskDeadlineExpired(bid.getTaskId())) {
@@ -1059,8 +923,12 @@ public class BiddingService {
             }
             
             // Mark UPI ID as viewed
-            bid.markUpiIdAsViewed();
-            Bid savedBid = bidRepository.save(bid);
+            Bid savedBid = transactionTemplate.execute(status -> {
+                Bid locked = findBidForUpdate(bidId);
+                checkUpiIdCanBeViewed(locked);
+                locked.markUpiIdAsViewed();
+                return bidRepository.save(locked);
+            });
             
             log.info("✅ UPI ID viewed successfully for bid ID: {}, Task: {}", savedBid.getId(), savedBid.getTaskId());
             
@@ -1074,37 +942,15 @@ public class BiddingService {
     
     /**
      * Accept completed work (by task owner after viewing UPI ID)
+     * The status is re-checked under a row lock, so of two concurrent calls only one
+     * publishes TASK_COMPLETED
      */
     public Bid acceptCompletedWork(Long bidId, Long taskOwnerId) {
         log.info("✅ Accepting completed work for bid ID: {} by task owner: {}", bidId, taskOwnerId);
         
         try {
-            Optional<Bid> bidOpt = bidRepository.findById(bidId);
-            
-            if (bidOpt.isEmpty()) {
-                log.warn("❌ Bid not found with ID: {}", bidId);
-                throw new RuntimeException("Bid not found");
-            }
-            
-            Bid bid = bidOpt.get();
-            
-            // Check if bid is accepted
-            if (!bid.isAccepted()) {
-                log.warn("❌ Bid ID: {} cannot be marked as completed - status is: {}", bidId, bid.getStatus());
-                throw new RuntimeException("Work can only be accepted for accepted bids");
-            }
-            
-            // Check if UPI ID has been submitted
-            if (!bid.hasUpiIdSubmitted()) {
-                log.warn("❌ UPI ID not submitted for bid ID: {}", bidId);
-                throw new RuntimeException("UPI ID must be submitted before accepting work");
-            }
-            
-            // Check if UPI ID has been viewed by task owner
-            if (!bid.hasUpiIdBeenViewed()) {
-                log.warn("❌ UPI ID not viewed for bid ID: {}", bidId);
-                throw new RuntimeException("You must view the bidder's UPI ID before accepting work");
-            }
+            Bid bid = findBid(bidId);
+            checkWorkCanBeAccepted(bid);
             
             // Check if task deadline has expired
             if (isTaskDeadlineExpired(bid.getTaskId())) {
@@ -1112,46 +958,20 @@ public class BiddingService {
                 throw new RuntimeException("Task deadline has expired. Work cannot be accepted.");
             }
             
-            // Update bid status to completed
-            bid.setStatus(Bid.BidStatus.COMPLETED);
-            bid.setUpdatedAt(LocalDateTime.now());
-            Bid savedBid = bidRepository.save(bid);
-            
-            // Update task completion timestamp via Task Service
-            try {
-                LocalDateTime completionTime = LocalDateTime.now();
-                TaskUpdateResponse completeRequest = TaskUpdateResponse.builder()
-                    .taskId(bid.getTaskId())
-                    .status("COMPLETED")
-                    .message("Work accepted and task completed")
-                    .updatedAt(completionTime)
-                    .completedAt(completionTime) // Sync completed_at timestamp
-                    .success(true)
-                    .build();
-                
-                taskServiceClient.completeTask(bid.getTaskId(), completeRequest);
-                log.info("✅ Task completion timestamp synchronized for task ID: {} at {}", 
-                        bid.getTaskId(), completionTime);
-            } catch (Exception e) {
-                log.warn("⚠️ Failed to synchronize task completion timestamp: {}", e.getMessage());
-                // Continue with bid completion even if task service update fails
-            }
-            
-            // Send email notification to bidder
-            try {
-                var taskResponse = taskServiceClient.getTaskById(bid.getTaskId());
-                if (taskResponse != null) {
-                    mailService.sendWorkAcceptanceEmailToBidder(
-                        bid.getBidderEmail(),
-                        taskResponse.getTitle(),
-                        taskResponse.getOwnerEmail()
-                    );
-                    log.info("📧 Work acceptance email sent to bidder: {}", bid.getBidderEmail());
-                }
-            } catch (Exception e) {
-                log.warn("⚠️ Failed to send work acceptance email: {}", e.getMessage());
-                // Continue even if email fails
-            }
+            // Update bid status to completed; Task and Profile Service are updated through the outbox
+            LocalDateTime completionTime = LocalDateTime.now();
+            Bid savedBid = transactionTemplate.execute(status -> {
+                Bid locked = findBidForUpdate(bidId);
+                checkWorkCanBeAccepted(locked);
+                locked.setStatus(Bid.BidStatus.COMPLETED);
+                locked.setUpdatedAt(completionTime);
+                Bid saved = bidRepository.save(locked);
+                domainEventBus.publish(DomainEventType.TASK_COMPLETED, saved.getTaskId(),
+                        BidPayload.of(saved, taskSnapshotService.findCategory(saved.getTaskId()), completionTime));
+                eventPublisher.publishEvent(new WorkAcceptedEvent(
+                        saved.getId(), saved.getTaskId(), saved.getBidderEmail(), completionTime));
+                return saved;
+            });
             
             log.info("✅ Work accepted successfully for bid ID: {}, Task: {}", savedBid.getId(), savedBid.getTaskId());
             
@@ -1163,9 +983,75 @@ public class BiddingService {
         }
     }
     
+    private Bid findBid(Long bidId) {
+        return bidRepository.findById(bidId).orElseThrow(() -> {
+            log.warn("❌ Bid not found with ID: {}", bidId);
+            return new RuntimeException("Bid not found");
+        });
+    }
+    
+    private Bid findBidForUpdate(Long bidId) {
+        return bidRepository.findByIdForUpdate(bidId).orElseThrow(() -> new RuntimeException("Bid not found"));
+    }
+    
+    private void checkUpiIdCanBeSubmitted(Bid bid, Long bidderId) {
+        // Check if bidder owns this bid
+        if (!bid.getBidderId().equals(bidderId)) {
+            log.warn("❌ User {} is not authorized to submit UPI ID for bid ID: {}", bidderId, bid.getId());
+            throw new RuntimeException("You are not authorized to submit UPI ID for this bid");
+        }
+        
+        // Check if bid is accepted
+        if (!bid.isAccepted()) {
+            log.warn("❌ Bid ID: {} cannot have UPI ID submitted - status is: {}", bid.getId(), bid.getStatus());
+            throw new RuntimeException("UPI ID can only be submitted for accepted bids");
+        }
+        
+        // Check if UPI ID is already submitted
+        if (bid.hasUpiIdSubmitted()) {
+            log.warn("❌ UPI ID already submitted for bid ID: {}", bid.getId());
+            throw new RuntimeException("UPI ID has already been submitted for this bid");
+        }
+    }
+    
+    private void checkUpiIdCanBeViewed(Bid bid) {
+        // Check if bid is accepted
+        if (!bid.isAccepted()) {
+            log.warn("❌ Bid ID: {} cannot have UPI ID viewed - status is: {}", bid.getId(), bid.getStatus());
+            throw new RuntimeException("UPI ID can only be viewed for accepted bids");
+        }
+        
+        // Check if UPI ID has been submitted
+        if (!bid.hasUpiIdSubmitted()) {
+            log.warn("❌ UPI ID not submitted for bid ID: {}", bid.getId());
+            throw new RuntimeException("UPI ID has not been submitted for this bid");
+        }
+    }
+    
+    private void checkWorkCanBeAccepted(Bid bid) {
+        // Check if bid is accepted
+        if (!bid.isAccepted()) {
+            log.warn("❌ Bid ID: {} cannot be marked as completed - status is: {}", bid.getId(), bid.getStatus());
+            throw new RuntimeException("Work can only be accepted for accepted bids");
+        }
+        
+        // Check if UPI ID has been submitted
+        if (!bid.hasUpiIdSubmitted()) {
+            log.warn("❌ UPI ID not submitted for bid ID: {}", bid.getId());
+            throw new RuntimeException("UPI ID must be submitted before accepting work");
+        }
+        
+        // Check if UPI ID has been viewed by task owner
+        if (!bid.hasUpiIdBeenViewed()) {
+            log.warn("❌ UPI ID not viewed for bid ID: {}", bid.getId());
+            throw new RuntimeException("You must view the bidder's UPI ID before accepting work");
+        }
+    }
+    
     /**
      * Get accepted bid with UPI ID for a task
      */
+    @Transactional(readOnly = true)
     public Optional<Bid> getAcceptedBidWithUpiIdForTask(Long taskId) {
         log.info("🔍 Retrieving accepted bid with UPI ID for task ID: {}", taskId);
         
@@ -1183,6 +1069,7 @@ public class BiddingService {
     /**
      * Get accepted bid for a task
      */
+    @Transactional(readOnly = true)
     public Optional<Bid> getAcceptedBidForTask(Long taskId) {
         log.info("🔍 Retrieving accepted bid for task ID: {}", taskId);
         
@@ -1200,6 +1087,7 @@ public class BiddingService {
     /**
      * Check if task has accepted bid with UPI ID submitted
      */
+    @Transactional(readOnly = true)
     public boolean hasAcceptedBidWithUpiIdForTask(Long taskId) {
         return bidRepository.existsAcceptedBidWithUpiIdForTask(taskId);
     }
@@ -1207,37 +1095,31 @@ public class BiddingService {
     /**
      * Check if task has accepted bid with UPI ID viewed
      */
+    @Transactional(readOnly = true)
     public boolean hasAcceptedBidWithViewedUpiIdForTask(Long taskId) {
         return bidRepository.existsAcceptedBidWithViewedUpiIdForTask(taskId);
     }
     
     /**
-     * Check if task deadline has expired
+     * Check if task deadline has expired, from the local task snapshot
      */
     private boolean isTaskDeadlineExpired(Long taskId) {
-        try {
-            // Get task details from Task Service to check deadline
-            var taskResponse = taskServiceClient.getTaskById(taskId);
-            if (taskResponse != null && taskResponse.getCompletionDeadline() != null) {
-                LocalDateTime now = LocalDateTime.now();
-                boolean isExpired = now.isAfter(taskResponse.getCompletionDeadline());
-                log.debug("⏰ Task ID: {} completion deadline: {}, current time: {}, expired: {}", 
-                        taskId, taskResponse.getCompletionDeadline(), now, isExpired);
-                return isExpired;
-            }
+        Optional<TaskSnapshot> task = taskSnapshotService.getTask(taskId);
+        if (task.isEmpty() || task.get().getCompletionDeadline() == null) {
             log.warn("⚠️ Could not determine completion deadline for task ID: {}", taskId);
             return false;
-        } catch (Exception e) {
-            log.error("❌ Error checking completion deadline for task ID: {}. Error: {}", 
-                    taskId, e.getMessage(), e);
-            return false; // Assume not expired if we can't check
         }
+        
+        LocalDateTime now = LocalDateTime.now();
+        boolean isExpired = task.get().isCompletionDeadlinePassed(now);
+        log.debug("⏰ Task ID: {} completion deadline: {}, current time: {}, expired: {}", 
+                taskId, task.get().getCompletionDeadline(), now, isExpired);
+        return isExpired;
     }
     
     /**
      * Auto-cancel expired tasks and their bids
      */
-    @Transactional
     public void autoCancelExpiredTasks() {
         log.info("🔄 Starting auto-cancellation of expired tasks");
         
@@ -1276,40 +1158,28 @@ public class BiddingService {
     /**
      * Auto-cancel a specific task and all its bids
      */
-    @Transactional
     public void autoCancelTaskAndBids(Long taskId) {
         log.info("❌ Auto-cancelling task ID: {} and all its bids", taskId);
         
         try {
-            // Get all bids for the task
-            List<Bid> taskBids = bidRepository.findByTaskIdOrderByAmountAsc(taskId);
-            
-            // Cancel all bids
-            for (Bid bid : taskBids) {
-                if (bid.getStatus() == Bid.BidStatus.PENDING || bid.getStatus() == Bid.BidStatus.ACCEPTED) {
-                    bid.setStatus(Bid.BidStatus.CANCELLED);
-                    bid.setUpdatedAt(LocalDateTime.now());
-                    bidRepository.save(bid);
-                    log.info("✅ Auto-cancelled bid ID: {} for task ID: {}", bid.getId(), taskId);
+            transactionTemplate.executeWithoutResult(status -> {
+                // Get all bids for the task
+                List<Bid> taskBids = bidRepository.findByTaskIdOrderByAmountAsc(taskId);
+                
+                // Cancel all bids
+                for (Bid bid : taskBids) {
+                    if (bid.getStatus() == Bid.BidStatus.PENDING || bid.getStatus() == Bid.BidStatus.ACCEPTED) {
+                        bid.setStatus(Bid.BidStatus.CANCELLED);
+                        bid.setUpdatedAt(LocalDateTime.now());
+                        bidRepository.save(bid);
+                        log.info("✅ Auto-cancelled bid ID: {} for task ID: {}", bid.getId(), taskId);
+                    }
                 }
-            }
-            
-            // Update task status to cancelled via Task Service
-            try {
-                TaskUpdateResponse updateRequest = TaskUpdateResponse.builder()
-                    .taskId(taskId)
-                    .status("CANCELLED")
-                    .message("Task auto-cancelled due to expired deadline")
-                    .updatedAt(LocalDateTime.now())
-                    .success(true)
-                    .build();
                 
-                taskServiceClient.updateTaskStatus(taskId, updateRequest);
-                log.info("✅ Task status updated to CANCELLED in Task Service for task ID: {}", taskId);
-            } catch (Exception e) {
-                log.warn("⚠️ Failed to update task status in Task Service: {}", e.getMessage());
-                // Continue even if task service update fails
-            }
+                // Task status is updated in Task Service through the outbox
+                domainEventBus.publish(DomainEventType.TASK_CANCELLED, taskId,
+                        Map.of("reason", "Task auto-cancelled due to expired deadline"));
+            });
             
             log.info("🎉 Task ID: {} and all its bids auto-cancelled successfully", taskId);
             
@@ -1,5 +1,6 @@
 package com.campusworks.bidding.service;
 
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,6 +16,7 @@ import java.time.format.DateTimeFormatter;
  * Mail Service for sending email notifications
  */
 @Service
+@Observed(name = "mail.send")
 @RequiredArgsConstructor
 @Slf4j
 public class MailService {
@@ -0,0 +1,220 @@
+package com.campusworks.bidding.service;
+
+import com.campusworks.bidding.client.TaskServiceClient;
+import com.campusworks.bidding.config.SchedulerMetrics;
+import com.campusworks.bidding.dto.TaskResponse;
+import com.campusworks.bidding.eventbus.TaskPayload;
+import com.campusworks.bidding.model.SyncCursor;
+import com.campusworks.bidding.model.TaskSnapshot;
+import com.campusworks.bidding.repo.SyncCursorRepository;
+import com.campusworks.bidding.repo.TaskSnapshotRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Task Snapshot Service
+ * Keeps the local task_snapshot table in step with Task Service and answers task lookups from it.
+ * Task events apply changes as they happen; the scheduled catch-up sync repairs anything missed,
+ * deletions included, from a cursor that only the changes feed moves.
+ * Only a task that is not in the snapshot yet is loaded from Task Service.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskSnapshotService {
+
+    private static final LocalDateTime SYNC_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final String SYNC_CURSOR = "task-changes";
+
+    private final TaskSnapshotRepository taskSnapshotRepository;
+    private final SyncCursorRepository syncCursorRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SchedulerMetrics schedulerMetrics;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    private TaskServiceClient taskServiceClient;
+
+    @Value("${bidding.task-snapshot.sync-batch-size:200}")
+    private int syncBatchSize;
+
+    @Value("${bidding.task-snapshot.sync-overlap-seconds:120}")
+    private long syncOverlapSeconds;
+
+    private Counter hitCounter;
+    private Counter missCounter;
+
+    @PostConstruct
+    public void init() {
+        hitCounter = lookupCounter("hit");
+        missCounter = lookupCounter("miss");
+    }
+
+    /**
+     * Get a task from the snapshot, loading it from Task Service on a miss
+     * Empty when the task was deleted, does not exist or Task Service cannot be reached
+     */
+    public Optional<TaskSnapshot> getTask(Long taskId) {
+        Optional<TaskSnapshot> snapshot = taskSnapshotRepository.findById(taskId);
+        if (snapshot.isPresent()) {
+            hitCounter.increment();
+            return snapshot.filter(task -> !task.isDeleted());
+        }
+
+        missCounter.increment();
+        return loadFromTaskService(taskId);
+    }
+
+    /**
+     * Category of a task from the snapshot only, for event payloads; null if it is not held
+     */
+    public String findCategory(Long taskId) {
+        return taskSnapshotRepository.findById(taskId).map(TaskSnapshot::getCategory).orElse(null);
+    }
+
+    /**
+     * Apply a task version from an event or the catch-up sync
+     * Joins the caller's transaction if there is one
+     * @return false if the snapshot already holds a newer version
+     */
+    public boolean apply(TaskPayload payload) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> upsert(payload)));
+    }
+
+    /**
+     * Mark a task deleted; the row stays as a tombstone
+     */
+    public void markDeleted(TaskPayload payload) {
+        apply(new TaskPayload(payload.taskId(), payload.title(), payload.category(), payload.budget(),
+                TaskSnapshot.DELETED, payload.ownerId(), payload.ownerEmail(), payload.biddingDeadline(),
+                payload.completionDeadline(), payload.updatedAt()));
+    }
+
+    /**
+     * Catch-up sync
+     * Pages through Task Service's changes from the saved cursor minus an overlap, so events
+     * that were lost or committed out of updatedAt order are still applied. The cursor is saved
+     * with each page and taken from the feed's last entry, never from locally applied events.
+     */
+    @Scheduled(fixedDelayString = "${bidding.task-snapshot.sync-interval:60000}")
+    public void syncChanges() {
+        long startTime = System.nanoTime();
+        int received = 0;
+        int applied = 0;
+        try {
+            LocalDateTime since = syncCursorRepository.findById(SYNC_CURSOR)
+                    .map(cursor -> cursor.getPositionUpdatedAt().minusSeconds(syncOverlapSeconds))
+                    .orElse(SYNC_START);
+            Long afterId = 0L;
+
+            while (true) {
+                List<TaskPayload> changes = taskServiceClient.getTaskChanges(since, afterId, syncBatchSize);
+                if (changes == null || changes.isEmpty()) {
+                    break;
+                }
+
+                TaskPayload last = changes.get(changes.size() - 1);
+                Integer appliedInBatch = transactionTemplate.execute(status -> {
+                    int count = (int) changes.stream().filter(this::upsert).count();
+                    advanceCursor(last);
+                    return count;
+                });
+                received += changes.size();
+                applied += appliedInBatch == null ? 0 : appliedInBatch;
+
+                if (changes.size() < syncBatchSize) {
+                    break;
+                }
+                since = last.updatedAt();
+                afterId = last.taskId();
+            }
+
+            if (applied > 0) {
+                log.info("🔄 Task snapshot sync applied {} of {} task changes", applied, received);
+            } else {
+                log.debug("🔄 Task snapshot sync: {} task changes, all up to date", received);
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ Task snapshot sync stopped after {} changes, will retry: {}", received, e.getMessage());
+        } finally {
+            schedulerMetrics.record("syncTaskSnapshots", System.nanoTime() - startTime);
+        }
+    }
+
+    private Optional<TaskSnapshot> loadFromTaskService(Long taskId) {
+        TaskResponse task;
+        try {
+            task = taskServiceClient.getTaskById(taskId);
+        } catch (Exception e) {
+            log.warn("⚠️ Could not load task ID: {} from Task Service: {}", taskId, e.getMessage());
+            return Optional.empty();
+        }
+
+        // The client fallback answers with an ownerless placeholder, which must not be stored
+        if (task == null || task.getOwnerId() == null || task.getUpdatedAt() == null) {
+            log.warn("⚠️ Task ID: {} not found in Task Service", taskId);
+            return Optional.empty();
+        }
+
+        TaskPayload payload = new TaskPayload(task.getId(), task.getTitle(), task.getCategory(), task.getBudget(),
+                task.getStatus(), task.getOwnerId(), task.getOwnerEmail(), task.getBiddingDeadline(),
+                task.getCompletionDeadline(), task.getUpdatedAt());
+        try {
+            apply(payload);
+        } catch (DataIntegrityViolationException e) {
+            // A task event inserted the row first
+            log.debug("🔄 Task ID: {} was added to the snapshot concurrently", taskId);
+        }
+        log.info("📥 Task ID: {} loaded into the snapshot from Task Service", taskId);
+        return taskSnapshotRepository.findById(taskId).filter(snapshot -> !snapshot.isDeleted());
+    }
+
+    /**
+     * Move the sync cursor to the given feed entry; never moves it back over the overlap
+     */
+    private void advanceCursor(TaskPayload last) {
+        SyncCursor cursor = syncCursorRepository.findById(SYNC_CURSOR).orElse(null);
+        if (cursor == null) {
+            cursor = new SyncCursor(SYNC_CURSOR, last.updatedAt(), last.taskId(), LocalDateTime.now());
+        } else if (cursor.isBefore(last.updatedAt(), last.taskId())) {
+            cursor.setPositionUpdatedAt(last.updatedAt());
+            cursor.setPositionId(last.taskId());
+            cursor.setSavedAt(LocalDateTime.now());
+        } else {
+            return;
+        }
+        syncCursorRepository.save(cursor);
+    }
+
+    private boolean upsert(TaskPayload payload) {
+        TaskSnapshot snapshot = taskSnapshotRepository.findById(payload.taskId()).orElseGet(TaskSnapshot::new);
+        if (!snapshot.isSupersededBy(payload)) {
+            log.debug("⏭️ Ignoring stale version of task ID: {} ({} older than {})",
+                    payload.taskId(), payload.updatedAt(), snapshot.getTaskUpdatedAt());
+            return false;
+        }
+        snapshot.apply(payload, LocalDateTime.now());
+        taskSnapshotRepository.save(snapshot);
+        return true;
+    }
+
+    private Counter lookupCounter(String result) {
+        return Counter.builder("bidding.task.snapshot.lookups")
+                .description("Task lookups answered from the local snapshot (hit) or Task Service (miss)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -3,10 +3,14 @@ const jwt = require('jsonwebtoken');
 const config = require('../../config');
 const logger = require('../utils/logger');
 
+const MAX_CACHED_VALIDATIONS = 10000;
+
 class AuthService {
   constructor() {
     this.baseUrl = config.springBootBaseUrl;
     this.jwtSecret = config.jwtSecret;
+    // token -> { user, expiresAt }, bounded by MAX_CACHED_VALIDATIONS
+    this.validationCache = new Map();
     
     // Debug logging
     console.log('AuthService initialized with:', {
@@ -17,71 +21,88 @@ class AuthService {
 
   /**
    * Validate JWT token with Spring Boot auth service
+   * Uses the claims-only endpoint, which also rejects revoked (logged out) tokens, and keeps
+   * each answer for as long as its Cache-Control max-age allows. Falls back to local signature
+   * verification only when the auth service cannot be reached.
    * @param {string} token - JWT token
    * @returns {Promise<Object>} User information
    */
   async validateToken(token) {
-    try {
-      logger.info('Validating token', { 
-        tokenLength: token?.length, 
-        tokenStart: token?.substring(0, 20),
-        jwtSecret: this.jwtSecret?.substring(0, 10) + '...'
-      });
-      
-      // First try to validate locally
-      try {
-        const decoded = jwt.verify(token, this.jwtSecret);
-        logger.info('Local JWT validation successful', { 
-          userId: decoded.sub, 
-          email: decoded.email, 
-          role: decoded.roles,
-          allClaims: Object.keys(decoded)
-        });
-        return {
-          userId: decoded.sub, // subject is the userId
-          email: decoded.email, // email is in claims
-          role: decoded.roles, // roles is in claims
-          valid: true
-        };
-      } catch (localError) {
-        logger.warn('Local JWT validation failed, trying Spring Boot service', { 
-          error: localError.message,
-          errorName: localError.name
-        });
-      }
+    const cached = this.validationCache.get(token);
+    if (cached && cached.expiresAt > Date.now()) {
+      return cached.user;
+    }
+    this.validationCache.delete(token);
 
-      // Fallback to Spring Boot service
-      const response = await axios.get(
-        `${this.baseUrl}/api/auth/validate`,
+    let response;
+    try {
+      response = await axios.get(
+        `${this.baseUrl}/api/auth/validate/claims`,
         {
-          headers: { 
-            Authorization: `Bearer ${token}`,
-            'Content-Type': 'application/json'
-          },
+          headers: { Authorization: `Bearer ${token}` },
           timeout: 5000
         }
       );
-
-      if (response.data && response.data.userId) {
-        logger.info('Spring Boot JWT validation successful', { 
-          userId: response.data.userId, 
-          email: response.data.email 
-        });
-        return {
-          userId: response.data.userId,
-          email: response.data.email,
-          role: response.data.role || response.data.roles,
-          valid: true
-        };
+    } catch (error) {
+      if (error.response && error.response.status === 401) {
+        logger.warn('Token rejected by auth service', { reason: error.response.data?.reason });
+        throw new Error('Invalid or expired token');
       }
+      logger.warn('Auth service unavailable, validating token locally', { error: error.message });
+      return this.validateTokenLocally(token);
+    }
 
+    const claims = response.data;
+    if (!claims || !claims.valid || !claims.userId) {
       throw new Error('Invalid token response');
+    }
+
+    const user = {
+      userId: claims.userId, // subject is the userId
+      email: claims.email,
+      role: claims.role,
+      valid: true
+    };
+    this.cacheValidation(token, user, response.headers['cache-control']);
+    return user;
+  }
+
+  /**
+   * Verify signature and expiry with the shared secret; cannot see revoked tokens
+   * @param {string} token - JWT token
+   * @returns {Object} User information
+   */
+  validateTokenLocally(token) {
+    try {
+      const decoded = jwt.verify(token, this.jwtSecret);
+      return {
+        userId: decoded.sub,
+        email: decoded.email,
+        role: decoded.roles,
+        valid: true
+      };
     } catch (error) {
       logger.error('Token validation failed:', error.message);
       throw new Error('Invalid or expired token');
     }
   }
 
+  /**
+   * Remember a valid answer for the max-age the auth service allowed
+   */
+  cacheValidation(token, user, cacheControl) {
+    const match = /max-age=(\d+)/.exec(cacheControl || '');
+    const maxAgeSeconds = match ? parseInt(match[1], 10) : 0;
+    if (maxAgeSeconds <= 0) {
+      return;
+    }
+    if (this.validationCache.size >= MAX_CACHED_VALIDATIONS) {
+      // Maps iterate in insertion order, so this drops the oldest entry
+      this.validationCache.delete(this.validationCache.keys().next().value);
+    }
+    this.validationCache.set(token, { user, expiresAt: Date.now() + maxAgeSeconds * 1000 });
+  }
+
   /**
    * Get user information by user ID
    * @param {number} userId - User ID
@@ -0,0 +1,88 @@
+package com.campusworks.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bidding Workflow
+ * One complete marketplace round trip:
+ * register -> verify -> login -> create task -> N concurrent bids -> auto-selection
+ * -> submit UPI -> view UPI -> accept work
+ */
+public class BiddingWorkflow {
+    
+    private static final String PASSWORD = "LoadTest@123";
+    private static final Duration MAIL_TIMEOUT = Duration.ofSeconds(30);
+    
+    /** Student numbers for generated college emails (nXXXXXX@rguktn.ac.in) */
+    private static final AtomicInteger STUDENT_NUMBERS = new AtomicInteger(100000);
+    
+    private final CampusWorksClient client;
+    private final EmbeddedInfrastructure infrastructure;
+    private final int biddersPerTask;
+    
+    /** A registered, logged-in user */
+    private record User(String email, String jwt) {
+    }
+    
+    public BiddingWorkflow(CampusWorksClient client, EmbeddedInfrastructure infrastructure, int biddersPerTask) {
+        this.client = client;
+        this.infrastructure = infrastructure;
+        this.biddersPerTask = biddersPerTask;
+    }
+    
+    public void run() throws Exception {
+        User owner = signUp();
+        List<User> bidders = new ArrayList<>(biddersPerTask);
+        for (int i = 0; i < biddersPerTask; i++) {
+            bidders.add(signUp());
+        }
+        
+        long taskId = client.createTask(owner.jwt(), "Lab record help for " + owner.email(), BigDecimal.valueOf(500));
+        
+        // All bidders bid at the same moment, as they would just before a deadline
+        Map<Long, User> biddersByBid = new HashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Map<Future<Long>, User> bids = new HashMap<>();
+            for (User bidder : bidders) {
+                BigDecimal amount = BigDecimal.valueOf(ThreadLocalRandom.current().nextInt(100, 450));
+                bids.put(executor.submit(() -> client.placeBid(bidder.jwt(), taskId, amount)), bidder);
+            }
+            for (Map.Entry<Future<Long>, User> bid : bids.entrySet()) {
+                biddersByBid.put(bid.getKey().get(), bid.getValue());
+            }
+        }
+        
+        infrastructure.closeBidding(taskId);
+        client.autoSelect(owner.jwt(), taskId);
+        
+        JsonNode winningBid = client.winningBid(owner.jwt(), taskId);
+        long bidId = winningBid.path("id").asLong();
+        User winner = biddersByBid.get(bidId);
+        if (winner == null) {
+            throw new IllegalStateException("Winning bid " + bidId + " for task " + taskId + " was not placed by this workflow");
+        }
+        
+        client.submitUpi(winner.jwt(), bidId, "student" + bidId + "@upi");
+        client.viewUpi(owner.jwt(), bidId);
+        client.acceptWork(owner.jwt(), bidId);
+    }
+    
+    private User signUp() throws Exception {
+        String email = "n" + STUDENT_NUMBERS.incrementAndGet() + "@rguktn.ac.in";
+        client.register(email, PASSWORD);
+        client.verifyEmail(infrastructure.awaitVerificationToken(email, MAIL_TIMEOUT));
+        return new User(email, client.login(email, PASSWORD));
+    }
+}
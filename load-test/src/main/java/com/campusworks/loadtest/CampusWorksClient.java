@@ -0,0 +1,128 @@
+package com.campusworks.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * CampusWorks Client
+ * Calls the public API through the gateway, exactly as the frontend does, and records the
+ * latency of every call under a stable endpoint label.
+ */
+public class CampusWorksClient {
+    
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    
+    private final String baseUrl;
+    private final LatencyRecorder recorder;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    
+    public CampusWorksClient(String gatewayUrl, LatencyRecorder recorder) {
+        this.baseUrl = gatewayUrl + "/api";
+        this.recorder = recorder;
+    }
+    
+    public void register(String email, String password) throws IOException, InterruptedException {
+        post("POST /auth/register", "/auth/register", null, Map.of("email", email, "password", password));
+    }
+    
+    public void verifyEmail(String token) throws IOException, InterruptedException {
+        String query = "?token=" + URLEncoder.encode(token, StandardCharsets.UTF_8);
+        send("GET /auth/verify", request("/auth/verify" + query, null).GET());
+    }
+    
+    public String login(String email, String password) throws IOException, InterruptedException {
+        JsonNode response = post("POST /auth/login", "/auth/login", null, Map.of("email", email, "password", password));
+        return response.path("token").asText();
+    }
+    
+    public long createTask(String jwt, String title, BigDecimal budget) throws IOException, InterruptedException {
+        JsonNode response = post("POST /tasks", "/tasks", jwt, Map.of(
+                "title", title,
+                "description", "Load-test task: complete the weekly lab record with diagrams and a short report.",
+                "budget", budget,
+                "category", "PROGRAMMING",
+                "completionDeadline", LocalDateTime.now().plusDays(7).withNano(0).toString()));
+        return response.path("taskId").asLong();
+    }
+    
+    public long placeBid(String jwt, long taskId, BigDecimal amount) throws IOException, InterruptedException {
+        JsonNode response = post("POST /bids", "/bids", jwt, Map.of(
+                "taskId", taskId,
+                "amount", amount,
+                "proposal", "I can finish this well before the deadline."));
+        return response.path("bidId").asLong();
+    }
+    
+    public void autoSelect(String jwt, long taskId) throws IOException, InterruptedException {
+        post("POST /bids/{taskId}/auto-select", "/bids/" + taskId + "/auto-select", jwt, Map.of());
+    }
+    
+    public JsonNode winningBid(String jwt, long taskId) throws IOException, InterruptedException {
+        return send("GET /bids/task/{taskId}/winning", request("/bids/task/" + taskId + "/winning", jwt).GET());
+    }
+    
+    public void submitUpi(String jwt, long bidId, String upiId) throws IOException, InterruptedException {
+        post("POST /bids/{id}/submit-upi", "/bids/" + bidId + "/submit-upi", jwt, Map.of("upiId", upiId));
+    }
+    
+    public void viewUpi(String jwt, long bidId) throws IOException, InterruptedException {
+        post("POST /bids/{id}/view-upi", "/bids/" + bidId + "/view-upi", jwt, Map.of());
+    }
+    
+    public void acceptWork(String jwt, long bidId) throws IOException, InterruptedException {
+        post("POST /bids/{id}/accept-work", "/bids/" + bidId + "/accept-work", jwt, Map.of());
+    }
+    
+    private JsonNode post(String endpoint, String path, String jwt, Map<String, ?> body)
+            throws IOException, InterruptedException {
+        byte[] json = objectMapper.writeValueAsBytes(body);
+        return send(endpoint, request(path, jwt)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(json)));
+    }
+    
+    private HttpRequest.Builder request(String path, String jwt) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+        if (jwt != null) {
+            builder.header("Authorization", "Bearer " + jwt);
+        }
+        return builder;
+    }
+    
+    private JsonNode send(String endpoint, HttpRequest.Builder request) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - start, false);
+            throw e;
+        }
+        boolean success = response.statusCode() / 100 == 2;
+        recorder.record(endpoint, System.nanoTime() - start, success);
+        
+        if (!success) {
+            throw new IOException(endpoint + " returned " + response.statusCode() + ": "
+                    + new String(response.body(), StandardCharsets.UTF_8));
+        }
+        return response.body().length == 0 ? objectMapper.nullNode() : objectMapper.readTree(response.body());
+    }
+}
@@ -0,0 +1,126 @@
+package com.campusworks.loadtest;
+
+import com.campusworks.eureka.EurekaServerApplication;
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+import jakarta.mail.BodyPart;
+import jakarta.mail.Multipart;
+import jakarta.mail.Part;
+import jakarta.mail.internet.MimeMessage;
+import org.h2.tools.Server;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Embedded Infrastructure
+ * In-process stand-ins for the external systems: an H2 TCP server in MySQL mode instead of
+ * MySQL, GreenMail instead of Gmail SMTP, and the real Eureka server on its usual port.
+ */
+public class EmbeddedInfrastructure implements AutoCloseable {
+    
+    private static final Logger logger = LoggerFactory.getLogger(EmbeddedInfrastructure.class);
+    
+    private static final Pattern VERIFICATION_TOKEN = Pattern.compile("verify-email\\?token=([A-Za-z0-9._~%-]+)");
+    
+    private final LoadTestConfig config;
+    private Server databaseServer;
+    private GreenMail smtpServer;
+    private ConfigurableApplicationContext eureka;
+    
+    public EmbeddedInfrastructure(LoadTestConfig config) {
+        this.config = config;
+    }
+    
+    public void start() throws SQLException {
+        databaseServer = Server.createTcpServer(
+                "-tcpPort", String.valueOf(config.databasePort()), "-ifNotExists").start();
+        logger.info("🗄️ H2 database server listening on port {}", config.databasePort());
+        
+        smtpServer = new GreenMail(new ServerSetup(config.smtpPort(), "localhost", ServerSetup.PROTOCOL_SMTP))
+                .withConfiguration(GreenMailConfiguration.aConfig().withDisabledAuthentication());
+        smtpServer.start();
+        logger.info("📧 SMTP sink listening on port {}", config.smtpPort());
+        
+        eureka = new SpringApplicationBuilder(EurekaServerApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .profiles(config.serviceProfile())
+                .properties("server.port=" + config.eurekaPort())
+                .run();
+        logger.info("🔍 Eureka server started on port {}", config.eurekaPort());
+    }
+    
+    /**
+     * Wait for the verification mail sent to the given address and return its token
+     */
+    public String awaitVerificationToken(String email, Duration timeout) throws Exception {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            for (MimeMessage message : smtpServer.getReceivedMessagesForDomain(email)) {
+                Matcher matcher = VERIFICATION_TOKEN.matcher(textOf(message));
+                if (matcher.find()) {
+                    return URLDecoder.decode(matcher.group(1), StandardCharsets.UTF_8);
+                }
+            }
+            Thread.sleep(50);
+        }
+        throw new IllegalStateException("No verification email received for " + email);
+    }
+    
+    /**
+     * Move a task's bidding deadline into the past so auto-selection can run immediately
+     */
+    public void closeBidding(long taskId) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(config.databaseUrl(ServiceProcesses.TASK_DATABASE), "sa", "");
+             PreparedStatement statement = connection.prepareStatement(
+                     "UPDATE tasks SET bidding_deadline = ? WHERE id = ?")) {
+            statement.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now().minusMinutes(1)));
+            statement.setLong(2, taskId);
+            statement.executeUpdate();
+        }
+    }
+    
+    private static String textOf(Part part) throws Exception {
+        Object content = part.getContent();
+        if (content instanceof String text) {
+            return text;
+        }
+        if (content instanceof Multipart multipart) {
+            StringBuilder text = new StringBuilder();
+            for (int i = 0; i < multipart.getCount(); i++) {
+                BodyPart bodyPart = multipart.getBodyPart(i);
+                text.append(textOf(bodyPart));
+            }
+            return text.toString();
+        }
+        return "";
+    }
+    
+    @Override
+    public void close() {
+        if (eureka != null) {
+            eureka.close();
+        }
+        if (smtpServer != null) {
+            smtpServer.stop();
+        }
+        if (databaseServer != null) {
+            databaseServer.stop();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.campusworks.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency Recorder
+ * Per-endpoint HdrHistograms of response times (including failed calls) plus error counts.
+ */
+public class LatencyRecorder {
+    
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+    
+    private final ConcurrentMap<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    
+    private static final class Endpoint {
+        private final Histogram latencies = new ConcurrentHistogram(3);
+        private final LongAdder errors = new LongAdder();
+    }
+    
+    /** Summary of one endpoint over the measured interval */
+    public record EndpointStats(
+            String endpoint,
+            long requests,
+            long errors,
+            double throughputPerSecond,
+            double p50Ms,
+            double p90Ms,
+            double p99Ms,
+            double p999Ms,
+            double maxMs) {
+    }
+    
+    public void record(String endpoint, long latencyNanos, boolean success) {
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, key -> new Endpoint());
+        stats.latencies.recordValue(latencyNanos);
+        if (!success) {
+            stats.errors.increment();
+        }
+    }
+    
+    /**
+     * Drop everything recorded so far (used after warm-up)
+     */
+    public void reset() {
+        endpoints.clear();
+    }
+    
+    public List<EndpointStats> summarize(Duration elapsed) {
+        double seconds = Math.max(elapsed.toNanos() / 1e9, 1e-9);
+        return endpoints.entrySet().stream()
+                .map(entry -> {
+                    Histogram histogram = entry.getValue().latencies.copy();
+                    return new EndpointStats(
+                            entry.getKey(),
+                            histogram.getTotalCount(),
+                            entry.getValue().errors.sum(),
+                            histogram.getTotalCount() / seconds,
+                            millis(histogram.getValueAtPercentile(50)),
+                            millis(histogram.getValueAtPercentile(90)),
+                            millis(histogram.getValueAtPercentile(99)),
+                            millis(histogram.getValueAtPercentile(99.9)),
+                            millis(histogram.getMaxValue()));
+                })
+                .sorted(Comparator.comparing(EndpointStats::endpoint))
+                .toList();
+    }
+    
+    private static double millis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+}
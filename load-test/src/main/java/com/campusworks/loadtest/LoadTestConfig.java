@@ -0,0 +1,62 @@
+package com.campusworks.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Load Test Configuration
+ * Read from -Dloadtest.* system properties so runs can be repeated from the command line.
+ */
+public record LoadTestConfig(
+        int workflows,
+        int warmupWorkflows,
+        int concurrency,
+        int biddersPerTask,
+        Path servicesDir,
+        Path outputDir,
+        String serviceProfile,
+        String serviceJvmOptions,
+        Duration startupTimeout,
+        Duration discoverySettleTime,
+        int gatewayPort,
+        int eurekaPort,
+        int databasePort,
+        int smtpPort,
+        String startupMode,
+        int startupRuns,
+        Path buildRoot) {
+    
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.getInteger("loadtest.workflows", 100),
+                Integer.getInteger("loadtest.warmup-workflows", 10),
+                Integer.getInteger("loadtest.concurrency", 16),
+                Integer.getInteger("loadtest.bidders-per-task", 5),
+                Path.of(System.getProperty("loadtest.services-dir", "target/services")),
+                Path.of(System.getProperty("loadtest.output-dir", "target/loadtest")),
+                System.getProperty("loadtest.service-profile", "prod"),
+                System.getProperty("loadtest.service-jvm-options", "-Xms256m -Xmx512m"),
+                Duration.ofSeconds(Long.getLong("loadtest.startup-timeout-seconds", 180)),
+                Duration.ofSeconds(Long.getLong("loadtest.discovery-settle-seconds", 20)),
+                Integer.getInteger("loadtest.gateway-port", 8080),
+                Integer.getInteger("loadtest.eureka-port", 8761),
+                Integer.getInteger("loadtest.database-port", 9092),
+                Integer.getInteger("loadtest.smtp-port", 3025),
+                System.getProperty("loadtest.startup-mode", "jvm"),
+                Integer.getInteger("loadtest.startup-runs", 3),
+                Path.of(System.getProperty("loadtest.build-root", "..")));
+    }
+    
+    String gatewayUrl() {
+        return "http://localhost:" + gatewayPort;
+    }
+    
+    String eurekaUrl() {
+        return "http://localhost:" + eurekaPort + "/eureka/";
+    }
+    
+    String databaseUrl(String database) {
+        return "jdbc:h2:tcp://localhost:" + databasePort + "/mem:" + database
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    }
+}
@@ -0,0 +1,119 @@
+package com.campusworks.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load Test Harness
+ * Boots the infrastructure stand-ins and all services, runs warm-up and measured batches of
+ * bidding workflows, then prints per-endpoint latency percentiles and throughput and writes
+ * them to report.json in the output directory.
+ *
+ * Usage: mvn package exec:java -Dloadtest.workflows=200 -Dloadtest.concurrency=32
+ */
+public class LoadTestHarness {
+    
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestHarness.class);
+    
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        logger.info("🏁 Load test: {} workflows ({} warm-up), concurrency {}, {} bidders per task",
+                config.workflows(), config.warmupWorkflows(), config.concurrency(), config.biddersPerTask());
+        
+        try (EmbeddedInfrastructure infrastructure = new EmbeddedInfrastructure(config);
+             ServiceProcesses services = new ServiceProcesses(config)) {
+            infrastructure.start();
+            services.start();
+            
+            LatencyRecorder recorder = new LatencyRecorder();
+            CampusWorksClient client = new CampusWorksClient(config.gatewayUrl(), recorder);
+            BiddingWorkflow workflow = new BiddingWorkflow(client, infrastructure, config.biddersPerTask());
+            
+            logger.info("🔥 Warming up with {} workflows", config.warmupWorkflows());
+            runBatch(workflow, config.warmupWorkflows(), config.concurrency());
+            recorder.reset();
+            
+            logger.info("📈 Measuring {} workflows", config.workflows());
+            long start = System.nanoTime();
+            int failed = runBatch(workflow, config.workflows(), config.concurrency());
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            
+            report(config, recorder.summarize(elapsed), elapsed, failed);
+        }
+    }
+    
+    private static int runBatch(BiddingWorkflow workflow, int count, int concurrency) throws InterruptedException {
+        AtomicInteger failed = new AtomicInteger();
+        try (ExecutorService executor = Executors.newFixedThreadPool(concurrency)) {
+            List<Future<?>> runs = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                runs.add(executor.submit(() -> {
+                    workflow.run();
+                    return null;
+                }));
+            }
+            for (Future<?> run : runs) {
+                try {
+                    run.get();
+                } catch (ExecutionException e) {
+                    failed.incrementAndGet();
+                    logger.warn("⚠️ Workflow failed: {}", e.getCause().getMessage());
+                }
+            }
+        }
+        return failed.get();
+    }
+    
+    private static void report(LoadTestConfig config, List<LatencyRecorder.EndpointStats> endpoints,
+                               Duration elapsed, int failedWorkflows) throws Exception {
+        double seconds = elapsed.toNanos() / 1e9;
+        int completed = config.workflows() - failedWorkflows;
+        
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%n%-36s %8s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        for (LatencyRecorder.EndpointStats stats : endpoints) {
+            table.append(String.format("%-36s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    stats.endpoint(), stats.requests(), stats.errors(), stats.throughputPerSecond(),
+                    stats.p50Ms(), stats.p90Ms(), stats.p99Ms(), stats.maxMs()));
+        }
+        table.append(String.format("%nworkflows: %d completed, %d failed in %.1f s (%.2f workflows/s)%n",
+                completed, failedWorkflows, seconds, completed / seconds));
+        logger.info("📊 Results:{}", table);
+        
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", Map.of(
+                "workflows", config.workflows(),
+                "warmupWorkflows", config.warmupWorkflows(),
+                "concurrency", config.concurrency(),
+                "biddersPerTask", config.biddersPerTask(),
+                "serviceProfile", config.serviceProfile(),
+                "serviceJvmOptions", config.serviceJvmOptions()));
+        report.put("elapsedSeconds", seconds);
+        report.put("completedWorkflows", completed);
+        report.put("failedWorkflows", failedWorkflows);
+        report.put("workflowsPerSecond", completed / seconds);
+        report.put("endpoints", endpoints);
+        
+        Path output = Files.createDirectories(config.outputDir()).resolve("report.json");
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(output.toFile(), report);
+        logger.info("💾 Report written to {}", output);
+    }
+}
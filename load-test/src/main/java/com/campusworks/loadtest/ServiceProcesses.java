@@ -0,0 +1,181 @@
+package com.campusworks.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service Processes
+ * Launches each service from its executable jar in its own JVM, pointed at the embedded
+ * infrastructure through command-line property overrides. The H2 driver is added with
+ * loader.path so the jars themselves stay unchanged.
+ */
+public class ServiceProcesses implements AutoCloseable {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ServiceProcesses.class);
+    
+    static final String AUTH_DATABASE = "campusworks_auth";
+    static final String TASK_DATABASE = "campusworks_task";
+    static final String BIDDING_DATABASE = "campusworks_bids";
+    static final String PROFILE_DATABASE = "campusworks_profile";
+    
+    private static final String LAUNCHER = "org.springframework.boot.loader.launch.PropertiesLauncher";
+    
+    private final LoadTestConfig config;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(2))
+            .build();
+    private final List<Process> processes = new ArrayList<>();
+    
+    /** One service to launch */
+    record ServiceDefinition(String name, int port, String database, List<String> arguments) {
+    }
+    
+    public ServiceProcesses(LoadTestConfig config) {
+        this.config = config;
+    }
+    
+    public void start() throws Exception {
+        List<ServiceDefinition> services = List.of(
+                new ServiceDefinition("auth-service", 9000, AUTH_DATABASE, List.of()),
+                new ServiceDefinition("task-service", 9001, TASK_DATABASE, List.of()),
+                // The harness drives auto-selection itself, so the scheduler must not race it
+                new ServiceDefinition("bidding-service", 9002, BIDDING_DATABASE,
+                        List.of("--bidding.auto-assignment-enabled=false")),
+                new ServiceDefinition("profile-service", 9003, PROFILE_DATABASE, List.of()),
+                new ServiceDefinition("api-gateway", config.gatewayPort(), null, List.of()));
+        
+        Path logDir = Files.createDirectories(config.outputDir().resolve("logs"));
+        for (ServiceDefinition service : services) {
+            processes.add(launch(service, logDir));
+        }
+        
+        for (ServiceDefinition service : services) {
+            awaitHealthy(service);
+        }
+        awaitRegistered(services);
+        
+        // Gateway and Feign clients refresh their Eureka cache on an interval
+        logger.info("⏳ Waiting {} s for discovery caches to settle", config.discoverySettleTime().toSeconds());
+        Thread.sleep(config.discoverySettleTime().toMillis());
+    }
+    
+    private Process launch(ServiceDefinition service, Path logDir) throws IOException {
+        Path jar = config.servicesDir().resolve(service.name() + "-exec.jar");
+        if (!Files.exists(jar)) {
+            throw new IllegalStateException("Service jar not found: " + jar + " (run mvn package first)");
+        }
+        
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(Arrays.asList(config.serviceJvmOptions().trim().split("\\s+")));
+        command.add("-Dloader.path=" + config.servicesDir().resolve("lib"));
+        command.add("-cp");
+        command.add(jar.toString());
+        command.add(LAUNCHER);
+        command.addAll(applicationArguments(config, service));
+        
+        Path log = logDir.resolve(service.name() + ".log");
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        logger.info("🚀 Started {} (pid {}) on port {}, log: {}", service.name(), process.pid(), service.port(), log);
+        return process;
+    }
+    
+    /**
+     * Property overrides that point a service at the embedded infrastructure
+     */
+    static List<String> applicationArguments(LoadTestConfig config, ServiceDefinition service) {
+        List<String> arguments = new ArrayList<>();
+        arguments.add("--server.port=" + service.port());
+        arguments.add("--spring.profiles.active=" + config.serviceProfile());
+        arguments.add("--eureka.client.service-url.defaultZone=" + config.eurekaUrl());
+        arguments.add("--eureka.client.registry-fetch-interval-seconds=5");
+        arguments.add("--spring.mail.host=localhost");
+        arguments.add("--spring.mail.port=" + config.smtpPort());
+        arguments.add("--spring.mail.properties.mail.smtp.auth=false");
+        arguments.add("--spring.mail.properties.mail.smtp.starttls.enable=false");
+        arguments.add("--spring.mail.properties.mail.smtp.starttls.required=false");
+        if (service.database() != null) {
+            arguments.add("--spring.datasource.url=" + config.databaseUrl(service.database()));
+            arguments.add("--spring.datasource.driver-class-name=org.h2.Driver");
+            arguments.add("--spring.datasource.username=sa");
+            arguments.add("--spring.datasource.password=");
+            arguments.add("--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect");
+        }
+        arguments.addAll(service.arguments());
+        return arguments;
+    }
+    
+    private void awaitHealthy(ServiceDefinition service) throws InterruptedException {
+        URI health = URI.create("http://localhost:" + service.port() + "/actuator/health");
+        long deadline = System.nanoTime() + config.startupTimeout().toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                HttpResponse<Void> response = httpClient.send(
+                        HttpRequest.newBuilder(health).GET().build(), HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    logger.info("✅ {} is healthy", service.name());
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException(service.name() + " did not become healthy within " + config.startupTimeout());
+    }
+    
+    private void awaitRegistered(List<ServiceDefinition> services) throws InterruptedException {
+        long deadline = System.nanoTime() + config.startupTimeout().toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                HttpResponse<String> response = httpClient.send(
+                        HttpRequest.newBuilder(URI.create(config.eurekaUrl() + "apps"))
+                                .header("Accept", "application/json")
+                                .GET().build(),
+                        HttpResponse.BodyHandlers.ofString());
+                String body = response.body().toUpperCase();
+                if (services.stream().allMatch(service -> body.contains("\"" + service.name().toUpperCase() + "\""))) {
+                    logger.info("✅ All services registered with Eureka");
+                    return;
+                }
+            } catch (IOException e) {
+                // Eureka not answering yet
+            }
+            Thread.sleep(1000);
+        }
+        throw new IllegalStateException("Services did not register with Eureka within " + config.startupTimeout());
+    }
+    
+    @Override
+    public void close() {
+        for (Process process : processes) {
+            process.destroy();
+        }
+        for (Process process : processes) {
+            try {
+                if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                process.destroyForcibly();
+            }
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.campusworks.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarFile;
+
+/**
+ * Startup Benchmark
+ * Starts each of the six services on its own, one run at a time, and records the time from
+ * process launch until /actuator/health answers 200 and the resident set size at that point.
+ * Services are pointed at the embedded infrastructure exactly as in the load test.
+ *
+ * Modes (-Dloadtest.startup-mode):
+ *   jvm    - the exec jars in the services directory, as the load test runs them
+ *   cds    - the AOT-processed, extracted jars and AppCDS archives from mvn -Pcds package
+ *   native - the GraalVM executables from mvn -Pnative package. The H2 driver cannot be
+ *            added to a native image at runtime, so services use their own datasource settings
+ *
+ * Usage: mvn package exec:java@startup -Dloadtest.startup-mode=cds -Dloadtest.startup-runs=5
+ */
+public class StartupBenchmark {
+    
+    private static final Logger logger = LoggerFactory.getLogger(StartupBenchmark.class);
+    
+    private static final String LAUNCHER = "org.springframework.boot.loader.launch.PropertiesLauncher";
+    
+    private static final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(500))
+            .build();
+    
+    /** One service to measure; eureka-server does not support Spring AOT */
+    private record BenchmarkedService(ServiceProcesses.ServiceDefinition definition, boolean aot) {
+    }
+    
+    /** Time-to-ready and memory of one run */
+    private record StartupSample(long readyMillis, long rssKilobytes) {
+    }
+    
+    /** Per-service results for the report */
+    public record StartupStats(String service, String mode, int runs,
+                               long minReadyMs, long medianReadyMs, long maxReadyMs, double medianRssMb) {
+    }
+    
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        String mode = config.startupMode().toLowerCase(Locale.ROOT);
+        if (!List.of("jvm", "cds", "native").contains(mode)) {
+            throw new IllegalArgumentException("Unknown startup mode: " + mode + " (expected jvm, cds or native)");
+        }
+        logger.info("🏁 Startup benchmark: mode {}, {} runs per service", mode, config.startupRuns());
+        
+        // The measured eureka-server gets its own port so it does not clash with the embedded one
+        List<BenchmarkedService> services = List.of(
+                service("eureka-server", config.eurekaPort() + 1, null, false),
+                service("api-gateway", config.gatewayPort(), null, true),
+                service("auth-service", 9000, ServiceProcesses.AUTH_DATABASE, true),
+                service("task-service", 9001, ServiceProcesses.TASK_DATABASE, true),
+                service("bidding-service", 9002, ServiceProcesses.BIDDING_DATABASE, true),
+                service("profile-service", 9003, ServiceProcesses.PROFILE_DATABASE, true));
+        
+        List<StartupStats> results = new ArrayList<>();
+        try (EmbeddedInfrastructure infrastructure = new EmbeddedInfrastructure(config)) {
+            infrastructure.start();
+            Path logDir = Files.createDirectories(config.outputDir().resolve("logs"));
+            
+            for (BenchmarkedService service : services) {
+                if (mode.equals("native") && !service.aot()) {
+                    logger.warn("⚠️ Skipping {}: Eureka Server does not support AOT, so it has no native image",
+                            service.definition().name());
+                    continue;
+                }
+                List<StartupSample> samples = new ArrayList<>();
+                for (int run = 1; run <= config.startupRuns(); run++) {
+                    StartupSample sample = measure(config, mode, service, logDir, run);
+                    logger.info("⏱️ {} run {}: ready in {} ms, RSS {} MB", service.definition().name(), run,
+                            sample.readyMillis(), sample.rssKilobytes() / 1024);
+                    samples.add(sample);
+                }
+                results.add(summarize(service.definition().name(), mode, samples));
+            }
+        }
+        
+        report(config, mode, results);
+    }
+    
+    private static BenchmarkedService service(String name, int port, String database, boolean aot) {
+        return new BenchmarkedService(new ServiceProcesses.ServiceDefinition(name, port, database, List.of()), aot);
+    }
+    
+    private static StartupSample measure(LoadTestConfig config, String mode, BenchmarkedService service,
+                                         Path logDir, int run) throws Exception {
+        String name = service.definition().name();
+        ProcessBuilder builder = switch (mode) {
+            case "cds" -> cdsCommand(config, service);
+            case "native" -> nativeCommand(config, service);
+            default -> jvmCommand(config, service);
+        };
+        Path log = logDir.resolve(name + "-" + mode + "-" + run + ".log");
+        builder.redirectErrorStream(true).redirectOutput(log.toFile());
+        
+        long start = System.nanoTime();
+        Process process = builder.start();
+        try {
+            long readyMillis = awaitReady(config, service.definition(), process, log, start);
+            return new StartupSample(readyMillis, residentSetKilobytes(process.pid()));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+    
+    private static ProcessBuilder jvmCommand(LoadTestConfig config, BenchmarkedService service) {
+        Path jar = config.servicesDir().resolve(service.definition().name() + "-exec.jar");
+        requireFile(jar, "mvn package");
+        
+        List<String> command = javaCommand(config);
+        command.add("-Dloader.path=" + config.servicesDir().resolve("lib"));
+        command.add("-cp");
+        command.add(jar.toString());
+        command.add(LAUNCHER);
+        command.addAll(ServiceProcesses.applicationArguments(config, service.definition()));
+        return new ProcessBuilder(command);
+    }
+    
+    private static ProcessBuilder cdsCommand(LoadTestConfig config, BenchmarkedService service) throws IOException {
+        String name = service.definition().name();
+        Path cdsDir = config.buildRoot().resolve(name).resolve("target").resolve("cds").toAbsolutePath();
+        requireFile(cdsDir.resolve("application.jsa"), "mvn -Pcds package in " + name);
+        
+        // Same relative classpath as the training run, so the archive is accepted; H2 is appended after it
+        List<String> command = javaCommand(config);
+        command.add("-XX:SharedArchiveFile=application.jsa");
+        if (service.aot()) {
+            command.add("-Dspring.aot.enabled=true");
+        }
+        command.add("-cp");
+        command.add(name + ".jar" + File.pathSeparator
+                + config.servicesDir().resolve("lib").toAbsolutePath() + File.separator + "*");
+        command.add(mainClass(cdsDir.resolve(name + ".jar")));
+        command.addAll(ServiceProcesses.applicationArguments(config, service.definition()));
+        return new ProcessBuilder(command).directory(cdsDir.toFile());
+    }
+    
+    private static ProcessBuilder nativeCommand(LoadTestConfig config, BenchmarkedService service) {
+        String name = service.definition().name();
+        Path executable = config.buildRoot().resolve(name).resolve("target").resolve(name).toAbsolutePath();
+        requireFile(executable, "mvn -Pnative package in " + name);
+        
+        ServiceProcesses.ServiceDefinition withoutH2 = new ServiceProcesses.ServiceDefinition(
+                name, service.definition().port(), null, service.definition().arguments());
+        List<String> command = new ArrayList<>();
+        command.add(executable.toString());
+        command.addAll(ServiceProcesses.applicationArguments(config, withoutH2));
+        return new ProcessBuilder(command);
+    }
+    
+    private static List<String> javaCommand(LoadTestConfig config) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(Arrays.asList(config.serviceJvmOptions().trim().split("\\s+")));
+        return command;
+    }
+    
+    private static String mainClass(Path jar) throws IOException {
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            return jarFile.getManifest().getMainAttributes().getValue("Main-Class");
+        }
+    }
+    
+    private static void requireFile(Path path, String buildCommand) {
+        if (!Files.exists(path)) {
+            throw new IllegalStateException("Not found: " + path + " (run " + buildCommand + " first)");
+        }
+    }
+    
+    private static long awaitReady(LoadTestConfig config, ServiceProcesses.ServiceDefinition service,
+                                   Process process, Path log, long start) throws InterruptedException {
+        URI health = URI.create("http://localhost:" + service.port() + "/actuator/health");
+        long deadline = start + config.startupTimeout().toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(service.name() + " exited with code " + process.exitValue()
+                        + " before becoming ready, see " + log);
+            }
+            try {
+                HttpResponse<Void> response = httpClient.send(
+                        HttpRequest.newBuilder(health).GET().build(), HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(20);
+        }
+        throw new IllegalStateException(service.name() + " did not become ready within " + config.startupTimeout());
+    }
+    
+    /**
+     * Resident set size from /proc on Linux, falling back to ps elsewhere
+     */
+    private static long residentSetKilobytes(long pid) throws IOException, InterruptedException {
+        Path status = Path.of("/proc", String.valueOf(pid), "status");
+        if (Files.exists(status)) {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", ""));
+                }
+            }
+        }
+        
+        Process ps = new ProcessBuilder("ps", "-o", "rss=", "-p", String.valueOf(pid)).start();
+        String output = new String(ps.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+        ps.waitFor();
+        return output.isEmpty() ? -1 : Long.parseLong(output);
+    }
+    
+    private static StartupStats summarize(String service, String mode, List<StartupSample> samples) {
+        long[] ready = samples.stream().mapToLong(StartupSample::readyMillis).sorted().toArray();
+        long[] rss = samples.stream().mapToLong(StartupSample::rssKilobytes).sorted().toArray();
+        return new StartupStats(service, mode, samples.size(),
+                ready[0], ready[ready.length / 2], ready[ready.length - 1],
+                rss[rss.length / 2] / 1024.0);
+    }
+    
+    private static void report(LoadTestConfig config, String mode, List<StartupStats> results) throws Exception {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%n%-18s %-7s %5s %9s %9s %9s %9s%n",
+                "service", "mode", "runs", "min ms", "p50 ms", "max ms", "RSS MB"));
+        for (StartupStats stats : results) {
+            table.append(String.format("%-18s %-7s %5d %9d %9d %9d %9.1f%n",
+                    stats.service(), stats.mode(), stats.runs(),
+                    stats.minReadyMs(), stats.medianReadyMs(), stats.maxReadyMs(), stats.medianRssMb()));
+        }
+        logger.info("📊 Startup results:{}", table);
+        
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("mode", mode);
+        report.put("runs", config.startupRuns());
+        report.put("serviceJvmOptions", config.serviceJvmOptions());
+        report.put("services", results);
+        
+        Path output = Files.createDirectories(config.outputDir()).resolve("startup-" + mode + ".json");
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(output.toFile(), report);
+        logger.info("💾 Report written to {}", output);
+    }
+}